@@ -29,6 +29,10 @@ android {
         sourceCompatibility = JavaVersion.VERSION_11
         targetCompatibility = JavaVersion.VERSION_11
     }
+    testOptions {
+        // Los stubs de android.jar (Matrix, GLES20) devuelven valores por defecto en pruebas de JVM
+        unitTests.isReturnDefaultValues = true
+    }
 }
 
 dependencies {
@@ -0,0 +1,77 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * AdaptiveTessellator - Muestreo del cicloide según el error en pantalla
+ *
+ * Un tramo de parámetro h alrededor de θ se aparta de su cuerda una flecha
+ * e ≈ κ·|r'|²·h²/8 = a·sin(θ/2)·h²/8 (unidades del mundo). Con p píxeles por
+ * unidad, el paso que mantiene e·p ≤ tolerancia es
+ *
+ *   h = sqrt(8·tol / (p·a·sin(θ/2)))
+ *
+ * En longitud de arco (ds = 2a·sin(θ/2)·h) los vértices quedan más juntos cerca
+ * de las cúspides θ = 0 y θ = 2π, donde la curvatura es mayor, y más separados
+ * en la cima del arco. El paso se acota para no dejar huecos ni disparar la
+ * cantidad de vértices.
+ *
+ * Para cualquier RollingCurve el factor de flecha (a·sin(θ/2) en el cicloide,
+ * la cota |r''| en las demás) sale de la tabla de la curva (maxBend) y
+ * planThetas() solo produce los θ: la evaluación se hace después por lotes,
+ * sin llamadas a la curva por vértice.
+ */
+public final class AdaptiveTessellator {
+
+    public static final double DEFAULT_TOLERANCE_PX = 0.25;
+
+    // Paso máximo en θ: cerca de las cúspides la fórmula tiende a infinito
+    public static final double MAX_STEP = 0.2;
+
+    // Paso mínimo en θ: como mucho 4096 vértices por arco
+    public static final double MIN_STEP = 2 * Math.PI / 4096;
+
+    private final double tolerancePx;
+
+    public AdaptiveTessellator(double tolerancePx) {
+        this.tolerancePx = tolerancePx;
+    }
+
+    public double tolerancePx() {
+        return tolerancePx;
+    }
+
+    /**
+     * Paso en θ para un tramo con factor de flecha ≤ bend
+     */
+    public double stepFor(double bend, double pixelsPerUnit) {
+        double denominator = pixelsPerUnit * bend;
+        if (denominator <= 0) return MAX_STEP;
+
+        double step = Math.sqrt(8 * tolerancePx / denominator);
+        return Math.max(MIN_STEP, Math.min(MAX_STEP, step));
+    }
+
+    /**
+     * Siguiente θ tras theta para una curva cualquiera; el segundo paso acota
+     * la curvatura en todo el tramo y no solo en su inicio
+     */
+    public double nextTheta(RollingCurve curve, double theta, double pixelsPerUnit) {
+        double step = stepFor(curve.maxBend(theta, theta), pixelsPerUnit);
+        step = Math.min(step, stepFor(curve.maxBend(theta, theta + step), pixelsPerUnit));
+        return theta + step;
+    }
+
+    /**
+     * Escribe en out los θ que siguen a after hasta llegar a to (incluido) o llenar out
+     *
+     * @return Número de θ escritos; el último es to si se llegó al final
+     */
+    public int planThetas(RollingCurve curve, double after, double to, double pixelsPerUnit, double[] out) {
+        int count = 0;
+        double theta = after;
+        while (count < out.length && theta < to) {
+            theta = Math.min(to, nextTheta(curve, theta, pixelsPerUnit));
+            out[count++] = theta;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,116 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * AnimationClock - Reloj de animación basado en System.nanoTime()
+ *
+ * Convierte el tiempo real entre frames en segundos para que θ, el zoom y el
+ * brillo avancen igual a 60 Hz, 120 Hz o con frames perdidos. Ofrece además un
+ * acumulador de paso fijo: cada frame devuelve cuántos pasos de duración fija
+ * han transcurrido, para que θ tome los mismos valores a cualquier frecuencia.
+ */
+public class AnimationClock {
+
+    /**
+     * Fuente de tiempo en nanosegundos (sustituible en pruebas)
+     */
+    public interface TimeSource {
+        long nanoTime();
+    }
+
+    public static final TimeSource SYSTEM = new TimeSource() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+    };
+
+    // Frecuencia con la que se calibraron las constantes "por frame" originales
+    public static final double REFERENCE_HZ = 60.0;
+
+    // Límite de un frame: evita saltos tras pausas largas o al volver del reposo
+    private static final double MAX_DELTA_SECONDS = 0.25;
+
+    private final TimeSource timeSource;
+    private long lastNanos = -1;
+    private double deltaSeconds = 0;
+    private double stepAccumulator = 0;
+
+    public AnimationClock() {
+        this(SYSTEM);
+    }
+
+    public AnimationClock(TimeSource timeSource) {
+        this.timeSource = timeSource;
+    }
+
+    /**
+     * Avanza el reloj; el primer tick tras reset() devuelve 0
+     *
+     * @return segundos transcurridos desde el tick anterior, acotados
+     */
+    public double tick() {
+        long now = timeSource.nanoTime();
+        if (lastNanos < 0) {
+            deltaSeconds = 0;
+        } else {
+            deltaSeconds = Math.min((now - lastNanos) / 1e9, MAX_DELTA_SECONDS);
+        }
+        lastNanos = now;
+        return deltaSeconds;
+    }
+
+    /**
+     * Marca de tiempo del último tick() (nanosegundos de la fuente de tiempo)
+     */
+    public long frameNanos() {
+        return lastNanos;
+    }
+
+    /**
+     * Olvida el tiempo anterior (al iniciar o reanudar una animación)
+     */
+    public void reset() {
+        lastNanos = -1;
+        deltaSeconds = 0;
+        stepAccumulator = 0;
+    }
+
+    public double deltaSeconds() {
+        return deltaSeconds;
+    }
+
+    /**
+     * Pasos fijos completos contenidos en el último delta más el sobrante anterior
+     *
+     * @param stepSeconds Duración de un paso
+     * @param maxSteps    Máximo de pasos de recuperación por frame; el exceso se descarta
+     */
+    public int consumeSteps(double stepSeconds, int maxSteps) {
+        stepAccumulator += deltaSeconds;
+        // Tolerancia para que la suma de deltas no pierda un paso por redondeo
+        int steps = (int) Math.floor(stepAccumulator / stepSeconds + 1e-9);
+        if (steps > maxSteps) {
+            steps = maxSteps;
+            stepAccumulator = 0;
+        } else {
+            stepAccumulator = Math.max(0, stepAccumulator - steps * stepSeconds);
+        }
+        return steps;
+    }
+
+    /**
+     * Pasos de recuperación que cubren el delta máximo de un frame más el sobrante
+     * del acumulador, para que consumeSteps() no descarte tiempo tras un tirón
+     */
+    public static int maxCatchUpSteps(double stepSeconds) {
+        return (int) Math.ceil(MAX_DELTA_SECONDS / stepSeconds) + 1;
+    }
+
+    /**
+     * Factor de interpolación exponencial equivalente a aplicar perFrameFactor
+     * una vez por frame a REFERENCE_HZ durante deltaSeconds
+     */
+    public static float smoothingFactor(float perFrameFactor, double deltaSeconds) {
+        return (float) (1.0 - Math.pow(1.0 - perFrameFactor, deltaSeconds * REFERENCE_HZ));
+    }
+}
@@ -0,0 +1,73 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.nio.FloatBuffer;
+
+/**
+ * AreaStrip - Relleno del área bajo la curva como GL_TRIANGLE_STRIP de solo anexado
+ *
+ * Cada punto del trazo aporta dos vértices: el punto (x, y) y su base (x, 0).
+ * Con el orden (arriba, abajo) la tira genera por segmento exactamente los dos
+ * triángulos de la antigua lista: (base1, p1, p2) y (base1, p2, base2).
+ * Las curvas cerradas usan como base un punto fijo (el centro del círculo).
+ */
+public class AreaStrip {
+
+    public static final int VERTICES_PER_POINT = 2;
+
+    private final GrowableVertexBuffer vertices;
+
+    public AreaStrip(int initialPointCapacity) {
+        this(initialPointCapacity, GrowableVertexBuffer.DIRECT);
+    }
+
+    public AreaStrip(int initialPointCapacity, GrowableVertexBuffer.Allocator allocator) {
+        vertices = new GrowableVertexBuffer(initialPointCapacity * VERTICES_PER_POINT, allocator);
+    }
+
+    /**
+     * Extiende la tira con un nuevo punto del trazo
+     */
+    public void appendPoint(float x, float y) {
+        appendPoint(x, y, x, 0f);
+    }
+
+    /**
+     * Extiende la tira con un punto del trazo y su base (baseX, baseY)
+     */
+    public void appendPoint(float x, float y, float baseX, float baseY) {
+        vertices.append(x, y, 0f);
+        vertices.append(baseX, baseY, 0f);
+    }
+
+    /**
+     * Quita el último punto (sus dos vértices)
+     */
+    public void removeLastPoint() {
+        if (pointCount() == 0) return;
+        vertices.removeLast();
+        vertices.removeLast();
+    }
+
+    public void clear() {
+        vertices.clear();
+    }
+
+    /**
+     * Número de puntos del trazo representados en la tira
+     */
+    public int pointCount() {
+        return vertices.vertexCount() / VERTICES_PER_POINT;
+    }
+
+    public int vertexCount() {
+        return vertices.vertexCount();
+    }
+
+    public int vertexCapacity() {
+        return vertices.vertexCapacity();
+    }
+
+    public FloatBuffer buffer() {
+        return vertices.buffer();
+    }
+}
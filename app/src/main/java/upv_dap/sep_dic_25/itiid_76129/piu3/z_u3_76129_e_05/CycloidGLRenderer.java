@@ -3,11 +3,9 @@ package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
 import android.opengl.GLES20;
 import android.opengl.GLSurfaceView;
 import android.opengl.Matrix;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
+import android.util.Log;
+import java.io.File;
 import java.nio.FloatBuffer;
-import java.util.ArrayList;
-import java.util.List;
 import javax.microedition.khronos.egl.EGLConfig;
 import javax.microedition.khronos.opengles.GL10;
 
@@ -16,12 +14,18 @@ import javax.microedition.khronos.opengles.GL10;
  */
 public class CycloidGLRenderer implements GLSurfaceView.Renderer {
 
+    private static final String TAG = "CycloidGLRenderer";
+
     // Matrices de transformación
     private final float[] projectionMatrix = new float[16];
     private final float[] viewMatrix = new float[16];
-    private final float[] modelMatrix = new float[16];
-    private final float[] mvpMatrix = new float[16];
-    private final float[] tempMatrix = new float[16];
+    private final float[] viewProjectionMatrix = new float[16];
+    private final float[] wheelModelMatrix = new float[16];
+    private final float[] tracerModelMatrix = new float[16];
+    private final float[] wheelMvpMatrix = new float[16];
+    private final float[] tracerMvpMatrix = new float[16];
+    private final float[] archModelMatrix = new float[16];
+    private final float[] archMvpMatrix = new float[16];
 
     // Rotación de la cámara
     private float cameraRotationX = 30f;
@@ -30,82 +34,235 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
     
     // Animación de zoom de cámara
     private float targetCameraDistance = 400f;
-    private static final float CAMERA_ZOOM_SPEED = 0.08f; // Velocidad de transición suave
+    private static final float CAMERA_ZOOM_SPEED = 0.08f; // Fracción por frame a 60 Hz
 
     // Parámetros de animación
     private double radius = 50.0;
+    // Curva en curso: se evalúa solo por lotes (RollingCurve.evaluate)
+    private RollingCurve curve = new CycloidKernel(radius);
+    private boolean areaToAxis = true;          // Base del área: eje X o centro del círculo
     private double currentTheta = 0.0;
     private boolean isAnimating = false;
     private boolean animationComplete = false;
     private static final double THETA_INCREMENT = 0.02;
     private static final double TWO_PI = 2 * Math.PI;
+    // Capacidad inicial del trazo; el teselado adaptativo decide los vértices reales
+    private static final int TRAIL_CAPACITY_HINT = (int) Math.ceil(TWO_PI / THETA_INCREMENT) + 2;
+    // Duración original del barrido (un THETA_INCREMENT por frame a 60 Hz, ~5.2 s)
+    private static final double DEFAULT_SWEEP_SECONDS = TWO_PI / THETA_INCREMENT / AnimationClock.REFERENCE_HZ;
+
+    // Reloj de animación por tiempo transcurrido
+    private final AnimationClock animationClock;
+    private double sweepDurationSeconds = DEFAULT_SWEEP_SECONDS;
+    private boolean fixedStepAnimation = true;
+    // true si el frame anterior pidió otro (el reloj sigue corriendo)
+    private boolean clockRunning = false;
     
     // Animación de brillo del área al completar (efecto único)
     private float areaGlowAlpha = 0.0f;
     private boolean areaGlowActive = false;
     private boolean areaGlowFadingOut = false;
-    private static final float GLOW_FADE_IN_SPEED = 0.04f;
-    private static final float GLOW_FADE_OUT_SPEED = 0.015f;
-    private static final float GLOW_HOLD_TIME = 60f; // Frames para mantener el brillo
+    private static final float GLOW_FADE_IN_SPEED = 2.4f;   // Alfa por segundo
+    private static final float GLOW_FADE_OUT_SPEED = 0.9f;  // Alfa por segundo
+    private static final float GLOW_HOLD_TIME = 1.0f;       // Segundos para mantener el brillo
     private float glowHoldCounter = 0f;
 
-    // Buffers de geometría
-    private FloatBuffer cycloidTrailBuffer;
-    private FloatBuffer circleBuffer;
-    private FloatBuffer spokesBuffer;
-    private FloatBuffer axisBuffer;
-    private FloatBuffer areaBuffer;
+    // Buffers directos reutilizables (hilo GL): crecimiento del trazo y subidas a VBO
+    private final DirectBufferPool bufferPool = new DirectBufferPool(AnimationClock.SYSTEM);
+    // Datos temporales del frame (se devuelven al pool en el siguiente)
+    private final DirectBufferPool.Arena frameArena = bufferPool.newArena();
+
+    // Buffers de geometría del arco en curso
+    private GrowableVertexBuffer cycloidTrailBuffer =
+            new GrowableVertexBuffer(TRAIL_CAPACITY_HINT, bufferPool);
+    private AreaStrip areaStrip = new AreaStrip(TRAIL_CAPACITY_HINT, bufferPool);
+
+    // Modo continuo: todos los arcos son el mismo trasladado 2πa, así que los
+    // arcos anteriores se dibujan desde una única copia del último completo.
+    // θ y las coordenadas se rebasan a cada arco: el arco en curso empieza en x = 0.
+    public static final int UNLIMITED_ARCHES = 0;
+    public static final int DEFAULT_KEPT_ARCHES = 3;
+    private GrowableVertexBuffer archTrailBuffer =
+            new GrowableVertexBuffer(TRAIL_CAPACITY_HINT, bufferPool);
+    private AreaStrip archAreaStrip = new AreaStrip(TRAIL_CAPACITY_HINT, bufferPool);
+    private int archLimit = 1;                     // Arcos a trazar (0 = sin fin)
+    private int keptArches = DEFAULT_KEPT_ARCHES;  // Arcos anteriores visibles
+    private long completedArches = 0;
+
+    // Geometría estática en la GPU (se sube en onSurfaceCreated)
+    private final WheelLod wheelLod = new WheelLod();
+    // Nivel de detalle elegido en el frame actual
+    private int wheelLevel = 0;
+    private WheelMesh wheelMesh = wheelLod.mesh(0);
+    private int wheelBaseVertex = 0;
+    private StaticVertexBuffer wheelVertexBuffer;
+    private StaticVertexBuffer axisVertexBuffer;
+
+    // Evaluación del cicloide en la GPU: malla de parámetros subida una vez
+    private static final int PARAM_SAMPLES = 1024;
+    private final CycloidParamMesh paramMesh = new CycloidParamMesh(PARAM_SAMPLES);
+    private StaticVertexBuffer paramVertexBuffer;
+    private CycloidParamProgram paramProgram;
+    private boolean gpuEvaluation = false;
+
+    // Escena de comparación: instancias sobre la misma malla de parámetros
+    private CycloidScene scene = new CycloidScene();
+    private CycloidInstanceProgram instanceProgram;
+    private DynamicVertexBuffer instanceBuffer;
+    private boolean instancedDrawing = false;   // ES 3.0: una llamada para todas
+    private boolean sceneAnimating = false;
+    private boolean scenePaused = false;
+
+    // Teselado adaptativo del trazo y del área según el error en pantalla
+    private final AdaptiveTessellator tessellator =
+            new AdaptiveTessellator(AdaptiveTessellator.DEFAULT_TOLERANCE_PX);
+    private double lastTrailTheta = 0.0;       // Último θ fijo del trazo
+    private boolean trailHasTip = false;        // Último vértice provisional en θ actual
+    private double trailPixelsPerUnit = 0.0;    // Escala con la que se teseló el trazo
+    // θ planificados y sus (x, y): el trazo se evalúa en lotes de TRAIL_BATCH puntos
+    private static final int TRAIL_BATCH = 256;
+    private final double[] trailThetas = new double[TRAIL_BATCH];
+    private final float[] trailPositions = new float[TRAIL_BATCH * RollingCurve.STRIDE];
+    private int viewportHeight = 1;
+    // Posición de la cámara en el mundo (para medir distancias proyectadas)
+    private float eyeWorldX;
+    private float eyeWorldY;
+    private float eyeWorldZ;
+    private static final float NEAR_PLANE = 3f; // Plano cercano del frustum (top = 1)
+
+    // Acceso a OpenGL (sustituible en pruebas)
+    private final GLApi gl;
+
+    // Compilación y caché de programas
+    private final ShaderManager shaderManager;
+
+    // Programa shader con ubicaciones ya resueltas
+    private ShaderProgram program;
+
+    // Órdenes de la UI, aplicadas al inicio de cada frame en el hilo GL
+    private final RenderCommandQueue commandQueue = new RenderCommandQueue();
+
+    // Planificador de frames bajo demanda (null = renderizado continuo)
+    private RenderScheduler renderScheduler;
+
+    // Programa de la rueda en lote (color por vértice)
+    private VertexColorProgram wheelProgram;
+
+    // Medición opcional por etapas; el temporizador de GPU solo en ES 3.0+ con la extensión
+    private final FrameProfiler profiler = new FrameProfiler(AnimationClock.SYSTEM);
+    private GpuTimer gpuTimer;
+
+    // Vsyncs perdidos durante las animaciones continuas
+    private final FramePacingStats framePacing = new FramePacingStats();
+
+    // Llamadas de dibujo del frame en curso y del último completo
+    private int frameDrawCalls = 0;
+    private int lastFrameDrawCalls = 0;
+
+    // Shaders (VERTEX_COLOR activa la variante con color por vértice)
+    private final String vertexShaderCode =
+            "uniform mat4 uMVPMatrix;\n" +
+                    "attribute vec4 vPosition;\n" +
+                    "#ifdef VERTEX_COLOR\n" +
+                    "attribute vec4 aColor;\n" +
+                    "varying vec4 vVertexColor;\n" +
+                    "#endif\n" +
+                    "void main() {\n" +
+                    "  gl_Position = uMVPMatrix * vPosition;\n" +
+                    "#ifdef VERTEX_COLOR\n" +
+                    "  vVertexColor = aColor;\n" +
+                    "#endif\n" +
+                    "}\n";
 
-    // Lista de puntos del trazo progresivo
-    private List<float[]> trailPoints = new ArrayList<>();
+    private final String fragmentShaderCode =
+            "precision mediump float;\n" +
+                    "#ifdef VERTEX_COLOR\n" +
+                    "varying vec4 vVertexColor;\n" +
+                    "#else\n" +
+                    "uniform vec4 vColor;\n" +
+                    "#endif\n" +
+                    "void main() {\n" +
+                    "#ifdef VERTEX_COLOR\n" +
+                    "  gl_FragColor = vVertexColor;\n" +
+                    "#else\n" +
+                    "  gl_FragColor = vColor;\n" +
+                    "#endif\n" +
+                    "}\n";
 
-    // Programa shader
-    private int shaderProgram;
+    /**
+     * @param shaderCacheDir Directorio privado para binarios de shaders (null = sin caché en disco)
+     */
+    public CycloidGLRenderer(File shaderCacheDir) {
+        this(new GLES20Api(), shaderCacheDir);
+    }
 
-    // Shaders
-    private final String vertexShaderCode =
-            "uniform mat4 uMVPMatrix;" +
-                    "attribute vec4 vPosition;" +
-                    "void main() {" +
-                    "  gl_Position = uMVPMatrix * vPosition;" +
-                    "}";
+    /**
+     * @param frameTimes Hora de cada frame para la animación y el ritmo de frames (p. ej. VsyncClock)
+     */
+    public CycloidGLRenderer(File shaderCacheDir, AnimationClock.TimeSource frameTimes) {
+        this(new GLES20Api(), shaderCacheDir, new AnimationClock(frameTimes));
+    }
 
-    private final String fragmentShaderCode =
-            "precision mediump float;" +
-                    "uniform vec4 vColor;" +
-                    "void main() {" +
-                    "  gl_FragColor = vColor;" +
-                    "}";
+    CycloidGLRenderer(GLApi gl, File shaderCacheDir) {
+        this(gl, shaderCacheDir, new AnimationClock());
+    }
+
+    CycloidGLRenderer(GLApi gl, File shaderCacheDir, AnimationClock animationClock) {
+        this.gl = gl;
+        this.shaderManager = new ShaderManager(gl, shaderCacheDir);
+        this.animationClock = animationClock;
+    }
 
     @Override
     public void onSurfaceCreated(GL10 unused, EGLConfig config) {
+        long start = System.nanoTime();
+
         // Color de fondo
-        GLES20.glClearColor(0.95f, 0.95f, 0.95f, 1.0f);
+        gl.glClearColor(0.95f, 0.95f, 0.95f, 1.0f);
 
         // Habilitar profundidad
-        GLES20.glEnable(GLES20.GL_DEPTH_TEST);
-        GLES20.glDepthFunc(GLES20.GL_LEQUAL);
+        gl.glEnable(GLES20.GL_DEPTH_TEST);
+        gl.glDepthFunc(GLES20.GL_LEQUAL);
 
         // Habilitar blending para transparencias
-        GLES20.glEnable(GLES20.GL_BLEND);
-        GLES20.glBlendFunc(GLES20.GL_SRC_ALPHA, GLES20.GL_ONE_MINUS_SRC_ALPHA);
-
-        // Compilar shaders
-        int vertexShader = loadShader(GLES20.GL_VERTEX_SHADER, vertexShaderCode);
-        int fragmentShader = loadShader(GLES20.GL_FRAGMENT_SHADER, fragmentShaderCode);
-
-        shaderProgram = GLES20.glCreateProgram();
-        GLES20.glAttachShader(shaderProgram, vertexShader);
-        GLES20.glAttachShader(shaderProgram, fragmentShader);
-        GLES20.glLinkProgram(shaderProgram);
+        gl.glEnable(GLES20.GL_BLEND);
+        gl.glBlendFunc(GLES20.GL_SRC_ALPHA, GLES20.GL_ONE_MINUS_SRC_ALPHA);
+
+        // Compilar (o recuperar de la caché) y validar los shaders
+        shaderManager.onContextCreated();
+        int programId = shaderManager.getProgram(vertexShaderCode, fragmentShaderCode);
+
+        // Resolver ubicaciones de atributos y uniformes una sola vez
+        program = new ShaderProgram(gl, programId);
+        paramProgram = new CycloidParamProgram(gl,
+                shaderManager.getProgram(CycloidParamProgram.VERTEX_SHADER, fragmentShaderCode));
+        wheelProgram = new VertexColorProgram(gl, shaderManager.getProgram(
+                VertexColorProgram.variant(vertexShaderCode),
+                VertexColorProgram.variant(fragmentShaderCode)));
+        instanceProgram = new CycloidInstanceProgram(gl, shaderManager.getProgram(
+                CycloidInstanceProgram.VERTEX_SHADER, VertexColorProgram.variant(fragmentShaderCode)));
+        instancedDrawing = CycloidInstanceProgram.supportsInstancing(gl);
 
         // Inicializar geometría estática
         initializeStaticGeometry();
+
+        // Los datos por instancia murieron con el contexto
+        instanceBuffer = new DynamicVertexBuffer(gl);
+        scene.markDirty();
+
+        // Las consultas anteriores murieron con el contexto
+        gpuTimer = GpuTimer.isSupported(gl) ? new GpuTimer(gl) : null;
+
+        Log.i(TAG, wheelLod.describe());
+        Log.i(TAG, String.format("Superficie creada en %.2f ms (binarios de shader: %s)",
+                (System.nanoTime() - start) / 1e6,
+                shaderManager.binariesSupported() ? "sí" : "no"));
     }
 
     @Override
     public void onSurfaceChanged(GL10 unused, int width, int height) {
-        GLES20.glViewport(0, 0, width, height);
+        gl.glViewport(0, 0, width, height);
+        viewportHeight = Math.max(1, height);
 
         float ratio = (float) width / height;
         // Far plane muy grande para soportar radios hasta 10000
@@ -116,43 +273,206 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
 
     @Override
     public void onDrawFrame(GL10 unused) {
-        GLES20.glClear(GLES20.GL_COLOR_BUFFER_BIT | GLES20.GL_DEPTH_BUFFER_BIT);
+        // Medición por etapas (solo si está activada)
+        boolean profiling = profiler.beginFrame();
+        if (profiling && gpuTimer != null) {
+            profiler.recordGpu(gpuTimer.poll());
+            gpuTimer.begin();
+        }
+
+        // Los buffers temporales del frame anterior vuelven al pool
+        bufferPool.beginFrame();
+
+        gl.glClear(GLES20.GL_COLOR_BUFFER_BIT | GLES20.GL_DEPTH_BUFFER_BIT);
+        frameDrawCalls = 0;
+
+        // Aplicar las órdenes de la UI antes de leer cualquier estado
+        processCommands();
+
+        // Tras un periodo en reposo el primer frame no avanza (evita saltos)
+        if (!clockRunning) {
+            animationClock.reset();
+        }
+        double deltaSeconds = animationClock.tick();
+
+        // Ritmo de frames con la hora del reloj: el intervalo solo cuenta si el
+        // frame anterior pidió este
+        if (!clockRunning) {
+            framePacing.breakSequence();
+        }
+        framePacing.onFrame(animationClock.frameNanos(), currentTheta / curve.period());
+        profiler.mark(FrameProfiler.COMMANDS);
 
         // Actualizar animación de zoom de cámara (transición suave)
-        updateCameraZoom();
+        updateCameraZoom(deltaSeconds);
+        profiler.mark(FrameProfiler.CAMERA);
         
         // Actualizar animación de brillo del área
-        updateAreaGlow();
+        updateAreaGlow(deltaSeconds);
+        profiler.mark(FrameProfiler.GLOW);
 
         // Actualizar animación
         if (isAnimating) {
-            updateAnimation();
+            updateAnimation(deltaSeconds);
+        }
+        if (!scenePaused) {
+            sceneAnimating = scene.advance(deltaSeconds * TWO_PI / sweepDurationSeconds);
         }
+        profiler.mark(FrameProfiler.ANIMATION);
 
         // Configurar cámara
         setupCamera();
 
-        // Dibujar escena
+        // Posicionar la rueda y el trazador
+        updateWheelTransform();
+        profiler.mark(FrameProfiler.CAMERA);
+
+        // Un acercamiento re-tesela el trazo aunque el barrido haya terminado
+        if (!evaluatesOnGpu()) {
+            checkTrailScale();
+        }
+        profiler.mark(FrameProfiler.TESSELLATE);
+
+        // Modo GPU: área y trazo los calcula el vertex shader a partir de (a, θmax)
+        if (evaluatesOnGpu()) {
+            drawCurveOnGpu();
+            profiler.mark(FrameProfiler.DRAW_GPU_CURVE);
+        }
+
+        // Un programa para la escena y otro para la rueda (uno más en modo GPU)
+        program.bind();
+
+        // Dibujar escena (eje, área y trazo comparten la matriz de vista-proyección)
+        program.setMvpMatrix(viewProjectionMatrix);
         drawAxis();
-        drawArea();
-        drawCycloidTrail();
+        profiler.mark(FrameProfiler.DRAW_AXIS);
+        if (!evaluatesOnGpu()) {
+            drawArea();
+            profiler.mark(FrameProfiler.DRAW_AREA);
+            drawCycloidTrail();
+            profiler.mark(FrameProfiler.DRAW_TRAIL);
+        }
+
+        program.unbind();
+
+        // Escena de comparación sobre la malla de parámetros compartida
+        drawScene();
+        profiler.mark(FrameProfiler.DRAW_SCENE);
 
         // Solo dibujar la rueda si hay animación activa o completada
         if (isAnimating || animationComplete) {
-            drawCircle();
-            drawSpokes();
-            drawTracerPoint();
+            drawWheel();
+        }
+        profiler.mark(FrameProfiler.DRAW_WHEEL);
+
+        lastFrameDrawCalls = frameDrawCalls;
+        if (profiling && gpuTimer != null) {
+            gpuTimer.end();
+        }
+        profiler.endFrame();
+
+        // Pedir el siguiente frame solo si alguna animación sigue en curso
+        clockRunning = needsNextFrame();
+        if (renderScheduler != null) {
+            renderScheduler.onFrameRendered(clockRunning, System.nanoTime());
         }
     }
 
+    /**
+     * Indica si el barrido, el zoom de cámara o el brillo del área siguen animándose
+     */
+    private boolean needsNextFrame() {
+        boolean zooming = cameraDistance != targetCameraDistance;
+        // El brillo arranca en el frame siguiente a completar el barrido
+        boolean glowPending = areaGlowActive || (animationComplete && !areaGlowFadingOut);
+        return isAnimating || zooming || glowPending || (sceneAnimating && !scenePaused);
+    }
+
+    /**
+     * Asigna el planificador usado en modo RENDERMODE_WHEN_DIRTY
+     */
+    public void setRenderScheduler(RenderScheduler renderScheduler) {
+        this.renderScheduler = renderScheduler;
+    }
+
+    /**
+     * Ejecuta las órdenes pendientes y la rotación táctil acumulada (hilo GL)
+     */
+    private void processCommands() {
+        commandQueue.drainCommands();
+
+        long rotation = commandQueue.takeRotation();
+        if (rotation != 0L) {
+            applyCameraRotation(RenderCommandQueue.rotationX(rotation), RenderCommandQueue.rotationY(rotation));
+        }
+    }
+
+    /**
+     * Activa la evaluación del cicloide en la GPU: sin vértices nuevos durante el
+     * barrido ni re-teselado al cambiar el radio
+     */
+    public void setGpuEvaluation(final boolean enabled) {
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                if (!enabled && evaluatesOnGpu()) {
+                    // En modo GPU no se guardan puntos: reconstruir el trazo en la CPU
+                    rebuildTrail();
+                }
+                gpuEvaluation = enabled;
+            }
+        });
+    }
+
+    /**
+     * El shader de parámetros solo conoce el cicloide: el resto de curvas se
+     * teselan en la CPU aunque el modo GPU esté activo
+     */
+    private boolean evaluatesOnGpu() {
+        return gpuEvaluation && curve instanceof CycloidKernel;
+    }
+
+    /**
+     * Duración de un barrido completo de 0 a 2π
+     *
+     * @param seconds Segundos (> 0)
+     */
+    public void setSweepDuration(final double seconds) {
+        if (!(seconds > 0)) {
+            throw new IllegalArgumentException("Duración de barrido inválida: " + seconds + " s");
+        }
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                sweepDurationSeconds = seconds;
+            }
+        });
+    }
+
+    /**
+     * Paso fijo: θ avanza en pasos enteros de THETA_INCREMENT (los mismos valores
+     * a 60 Hz, 120 Hz o con tirones); si no, avanza en proporción al tiempo.
+     * Solo cambia cómo avanza θ: en ambos modos el trazo se extiende una vez por
+     * frame y el teselado adaptativo elige sus vértices.
+     */
+    public void setFixedStepAnimation(final boolean fixedStep) {
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                fixedStepAnimation = fixedStep;
+            }
+        });
+    }
+
     /**
      * Actualiza la animación suave del zoom de cámara
      * Interpola gradualmente hacia la distancia objetivo
      */
-    private void updateCameraZoom() {
+    private void updateCameraZoom(double deltaSeconds) {
         if (Math.abs(cameraDistance - targetCameraDistance) > 0.5f) {
-            // Interpolación suave (lerp) hacia la distancia objetivo
-            cameraDistance += (targetCameraDistance - cameraDistance) * CAMERA_ZOOM_SPEED;
+            // Interpolación exponencial (lerp) independiente de la frecuencia de frames
+            float factor = AnimationClock.smoothingFactor(CAMERA_ZOOM_SPEED, deltaSeconds);
+            cameraDistance += (targetCameraDistance - cameraDistance) * factor;
         } else {
             cameraDistance = targetCameraDistance;
         }
@@ -162,7 +482,7 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
      * Actualiza la animación de brillo del área
      * Crea un efecto de destello único: fade-in -> hold -> fade-out
      */
-    private void updateAreaGlow() {
+    private void updateAreaGlow(double deltaSeconds) {
         if (animationComplete && !areaGlowActive && !areaGlowFadingOut && areaGlowAlpha == 0.0f) {
             // Iniciar animación de brillo cuando se completa el cicloide
             areaGlowActive = true;
@@ -174,18 +494,18 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
             if (!areaGlowFadingOut) {
                 // Fase de entrada suave (fade in)
                 if (areaGlowAlpha < 1.0f) {
-                    areaGlowAlpha += GLOW_FADE_IN_SPEED;
+                    areaGlowAlpha += GLOW_FADE_IN_SPEED * (float) deltaSeconds;
                     if (areaGlowAlpha > 1.0f) areaGlowAlpha = 1.0f;
                 } else {
                     // Mantener el brillo por un momento
-                    glowHoldCounter++;
+                    glowHoldCounter += (float) deltaSeconds;
                     if (glowHoldCounter >= GLOW_HOLD_TIME) {
                         areaGlowFadingOut = true;
                     }
                 }
             } else {
                 // Fase de salida suave (fade out)
-                areaGlowAlpha -= GLOW_FADE_OUT_SPEED;
+                areaGlowAlpha -= GLOW_FADE_OUT_SPEED * (float) deltaSeconds;
                 if (areaGlowAlpha <= 0.0f) {
                     areaGlowAlpha = 0.0f;
                     areaGlowActive = false;
@@ -209,410 +529,503 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
         float eyeY = cameraDistance * (float) Math.sin(radX);
         float eyeZ = cameraDistance * (float) (Math.cos(radX) * Math.cos(radY));
 
-        // Centro del cicloide (punto al que mira la cámara)
-        float centerX = (float) (Math.PI * radius);
-        float centerY = (float) radius;
+        // Centro de la curva (punto al que mira la cámara); en modo continuo, la rueda
+        float centerX = streaming()
+                ? (float) curve.wheelCenterX(currentTheta)
+                : (float) curve.viewCenterX();
+        float centerY = (float) curve.viewCenterY();
         float centerZ = 0f;
 
+        eyeWorldX = eyeX + centerX;
+        eyeWorldY = eyeY + centerY;
+        eyeWorldZ = eyeZ + centerZ;
+
         Matrix.setLookAtM(viewMatrix, 0,
-                eyeX + centerX, eyeY + centerY, eyeZ + centerZ,  // Posición cámara
+                eyeWorldX, eyeWorldY, eyeWorldZ,                  // Posición cámara
                 centerX, centerY, centerZ,                        // Punto de mira
                 0f, 1f, 0f);                                      // Vector arriba
 
-        // Sin rotación adicional en el modelo
-        Matrix.setIdentityM(modelMatrix, 0);
+        // Vista-proyección una vez por frame; el modelo del cicloide es la identidad
+        Matrix.multiplyMM(viewProjectionMatrix, 0, projectionMatrix, 0, viewMatrix, 0);
+    }
+
+    /**
+     * Calcula las matrices de modelo de la rueda y del punto trazador
+     */
+    private void updateWheelTransform() {
+        float centerX = (float) curve.wheelCenterX(currentTheta);
+        float centerY = (float) curve.wheelCenterY(currentTheta);
+        float scale = (float) radius;
+
+        // Rueda: traslación al centro (θ·a, a en el cicloide), giro y escala por el radio
+        Matrix.setIdentityM(wheelModelMatrix, 0);
+        Matrix.translateM(wheelModelMatrix, 0, centerX, centerY, 0f);
+        Matrix.rotateM(wheelModelMatrix, 0,
+                (float) Math.toDegrees(curve.wheelRotation(currentTheta)), 0f, 0f, 1f);
+        Matrix.scaleM(wheelModelMatrix, 0, scale, scale, 1f);
+
+        // Trazador: en el borde de la rueda, sin rotar el cuadrado
+        float pointX = (float) curve.x(currentTheta);
+        float pointY = (float) curve.y(currentTheta);
+
+        Matrix.setIdentityM(tracerModelMatrix, 0);
+        Matrix.translateM(tracerModelMatrix, 0, pointX, pointY, 0f);
+        Matrix.scaleM(tracerModelMatrix, 0, scale, scale, 1f);
+
+        Matrix.multiplyMM(wheelMvpMatrix, 0, viewProjectionMatrix, 0, wheelModelMatrix, 0);
+        Matrix.multiplyMM(tracerMvpMatrix, 0, viewProjectionMatrix, 0, tracerModelMatrix, 0);
+
+        // Nivel de detalle según el radio de la rueda en píxeles
+        selectWheelLod(centerX, centerY);
     }
 
     /**
-     * Actualiza la animación
+     * Elige la malla de la rueda a partir de su radio proyectado
      */
-    private void updateAnimation() {
+    private void selectWheelLod(float centerX, float centerY) {
+        double dx = eyeWorldX - centerX;
+        double dy = eyeWorldY - centerY;
+        double dz = eyeWorldZ;
+        double distance = Math.max(Math.sqrt(dx * dx + dy * dy + dz * dz), NEAR_PLANE);
+        double radiusPx = radius * viewportHeight / 2.0 * NEAR_PLANE / distance;
+
+        wheelLevel = wheelLod.select(radiusPx);
+        wheelMesh = wheelLod.mesh(wheelLevel);
+        wheelBaseVertex = wheelLod.baseVertex(wheelLevel);
+    }
+
+    /**
+     * Actualiza la animación según el tiempo transcurrido
+     */
+    private void updateAnimation(double deltaSeconds) {
         if (animationComplete) {
             return; // No continuar si ya se completó
         }
 
-        currentTheta += THETA_INCREMENT;
-
-        if (currentTheta >= TWO_PI) {
-            currentTheta = TWO_PI;
-            animationComplete = true;
-            isAnimating = false;
+        if (fixedStepAnimation) {
+            // Recuperar los pasos perdidos: mismo trazo a 60 Hz, 120 Hz o con tirones
+            double stepSeconds = sweepDurationSeconds * THETA_INCREMENT / TWO_PI;
+            int steps = animationClock.consumeSteps(stepSeconds, AnimationClock.maxCatchUpSteps(stepSeconds));
+            for (int i = 0; i < steps && !animationComplete; i++) {
+                advanceTheta(THETA_INCREMENT);
+            }
+        } else if (deltaSeconds > 0) {
+            advanceTheta(deltaSeconds * TWO_PI / sweepDurationSeconds);
         }
 
-        // Añadir nuevo punto al trazo
-        addTrailPoint();
+        // Extender el trazo hasta el θ actual (en modo GPU lo calcula el shader)
+        if (!evaluatesOnGpu()) {
+            extendTrail();
+        }
     }
 
     /**
-     * Añade un punto al trazo del cicloide
+     * Avanza θ hasta completar el barrido (un periodo de la curva)
      */
-    private void addTrailPoint() {
-        double centerX = currentTheta * radius;
-        double centerY = radius;
-        double centerZ = 0;
-
-        double rotationAngle = -currentTheta;
-        float x = (float) (centerX + radius * Math.sin(rotationAngle));
-        float y = (float) (centerY - radius * Math.cos(rotationAngle));
-        float z = 0f;
-
-        trailPoints.add(new float[]{x, y, z});
-
-        // Actualizar buffer del trazo
-        updateCycloidTrailBuffer();
+    private void advanceTheta(double deltaTheta) {
+        currentTheta += deltaTheta;
+
+        double period = curve.period();
+        while (currentTheta >= period) {
+            if (!streaming() || (archLimit != UNLIMITED_ARCHES && completedArches + 1 >= archLimit)) {
+                currentTheta = period;
+                animationComplete = true;
+                isAnimating = false;
+                return;
+            }
+            finishArch();
+        }
     }
 
     /**
-     * Actualiza el buffer del trazo del cicloide
+     * Cierra el arco al final del periodo, lo guarda como plantilla y empieza el siguiente en θ = 0
      */
-    private void updateCycloidTrailBuffer() {
-        if (trailPoints.size() < 2) return;
+    private void finishArch() {
+        double period = curve.period();
+        double remainder = currentTheta - period;
 
-        float[] vertices = new float[trailPoints.size() * 3];
-        for (int i = 0; i < trailPoints.size(); i++) {
-            float[] point = trailPoints.get(i);
-            vertices[i * 3] = point[0];
-            vertices[i * 3 + 1] = point[1];
-            vertices[i * 3 + 2] = point[2];
+        if (!evaluatesOnGpu()) {
+            currentTheta = period;
+            extendTrail();
         }
 
-        ByteBuffer bb = ByteBuffer.allocateDirect(vertices.length * 4);
-        bb.order(ByteOrder.nativeOrder());
-        cycloidTrailBuffer = bb.asFloatBuffer();
-        cycloidTrailBuffer.put(vertices);
-        cycloidTrailBuffer.position(0);
+        // Intercambio sin copiar: la plantilla anterior pasa a ser el arco nuevo
+        GrowableVertexBuffer trail = archTrailBuffer;
+        archTrailBuffer = cycloidTrailBuffer;
+        cycloidTrailBuffer = trail;
+        AreaStrip area = archAreaStrip;
+        archAreaStrip = areaStrip;
+        areaStrip = area;
+
+        cycloidTrailBuffer.clear();
+        areaStrip.clear();
+        lastTrailTheta = 0.0;
+        trailHasTip = false;
+
+        completedArches++;
+        currentTheta = remainder;
     }
 
     /**
-     * Dibuja el trazo del cicloide
+     * Modo continuo: solo las curvas que se repiten trasladadas (trocoides)
      */
-    private void drawCycloidTrail() {
-        if (cycloidTrailBuffer == null || trailPoints.size() < 2) return;
+    private boolean streaming() {
+        return archLimit != 1 && curve.archShift() > 0;
+    }
 
-        GLES20.glUseProgram(shaderProgram);
+    /**
+     * Arcos anteriores que se dibujan detrás del arco en curso
+     */
+    private int visiblePastArches() {
+        return (int) Math.min(completedArches, keptArches);
+    }
 
-        int positionHandle = GLES20.glGetAttribLocation(shaderProgram, "vPosition");
-        int colorHandle = GLES20.glGetUniformLocation(shaderProgram, "vColor");
-        int mvpMatrixHandle = GLES20.glGetUniformLocation(shaderProgram, "uMVPMatrix");
+    /**
+     * Píxeles por unidad del mundo en el punto de la curva más cercano a la cámara
+     * (distancia objetivo, para no re-teselar durante la transición de zoom)
+     */
+    private double trailPixelsPerUnit() {
+        double nearest = Math.max(targetCameraDistance - curve.extent() / 2, NEAR_PLANE);
+        return viewportHeight / 2.0 * NEAR_PLANE / nearest;
+    }
 
-        GLES20.glEnableVertexAttribArray(positionHandle);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, cycloidTrailBuffer);
+    /**
+     * Añade los vértices adaptativos entre el último θ fijo y el θ actual
+     *
+     * El último vértice es provisional: está en el θ actual para que el trazo
+     * llegue al trazador y se recoloca en cada frame.
+     */
+    private void extendTrail() {
+        double pixelsPerUnit = trailPixelsPerUnit();
 
-        // Color azul vibrante
-        GLES20.glUniform4f(colorHandle, 0.2f, 0.5f, 1.0f, 1.0f);
+        if (trailHasTip) {
+            removeLastTrailPoint();
+            trailHasTip = false;
+        }
+        if (cycloidTrailBuffer.vertexCount() == 0) {
+            trailThetas[0] = 0.0;
+            addTrailPoints(1);
+            lastTrailTheta = 0.0;
+        }
 
-        Matrix.multiplyMM(tempMatrix, 0, viewMatrix, 0, modelMatrix, 0);
-        Matrix.multiplyMM(mvpMatrix, 0, projectionMatrix, 0, tempMatrix, 0);
-        GLES20.glUniformMatrix4fv(mvpMatrixHandle, 1, false, mvpMatrix, 0);
+        // Los θ planificados terminan en el θ actual: ese último es la punta
+        double fixedTheta = lastTrailTheta;
+        double theta = lastTrailTheta;
+        while (theta < currentTheta) {
+            int count = tessellator.planThetas(curve, theta, currentTheta, pixelsPerUnit, trailThetas);
+            addTrailPoints(count);
+            fixedTheta = count > 1 ? trailThetas[count - 2] : theta;
+            theta = trailThetas[count - 1];
+        }
 
-        GLES20.glLineWidth(6f);
-        GLES20.glDrawArrays(GLES20.GL_LINE_STRIP, 0, trailPoints.size());
+        if (theta > lastTrailTheta) {
+            lastTrailTheta = fixedTheta;
+            trailHasTip = true;
+        }
+    }
 
-        GLES20.glDisableVertexAttribArray(positionHandle);
+    /**
+     * Regenera el trazo si la escala en pantalla creció más del doble desde el
+     * último teselado: la malla existente se vería facetada
+     */
+    private void checkTrailScale() {
+        if (trailPixelsPerUnit() > 2 * trailPixelsPerUnit) {
+            rebuildTrail();
+        }
     }
 
     /**
-     * Dibuja la rueda realista con neumático, rin y buje
+     * Regenera el trazo desde θ = 0 con la escala de pantalla actual
      */
-    private void drawCircle() {
-        double centerX = currentTheta * radius;
-        double centerY = radius;
-        int segments = 64;
-        
-        GLES20.glUseProgram(shaderProgram);
-        int positionHandle = GLES20.glGetAttribLocation(shaderProgram, "vPosition");
-        int colorHandle = GLES20.glGetUniformLocation(shaderProgram, "vColor");
-        int mvpMatrixHandle = GLES20.glGetUniformLocation(shaderProgram, "uMVPMatrix");
-        
-        Matrix.multiplyMM(tempMatrix, 0, viewMatrix, 0, modelMatrix, 0);
-        Matrix.multiplyMM(mvpMatrix, 0, projectionMatrix, 0, tempMatrix, 0);
-        GLES20.glUniformMatrix4fv(mvpMatrixHandle, 1, false, mvpMatrix, 0);
-        
-        // === 1. NEUMÁTICO EXTERIOR (negro grueso) ===
-        float[] tireVertices = new float[(segments + 1) * 3];
-        for (int i = 0; i <= segments; i++) {
-            double angle = (i / (double) segments) * TWO_PI;
-            tireVertices[i * 3] = (float) (centerX + radius * Math.cos(angle));
-            tireVertices[i * 3 + 1] = (float) (centerY + radius * Math.sin(angle));
-            tireVertices[i * 3 + 2] = 0f;
-        }
-        FloatBuffer tireBuffer = createFloatBuffer(tireVertices);
-        GLES20.glEnableVertexAttribArray(positionHandle);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, tireBuffer);
-        GLES20.glUniform4f(colorHandle, 0.15f, 0.15f, 0.15f, 1.0f); // Negro oscuro
-        GLES20.glLineWidth(8f);
-        GLES20.glDrawArrays(GLES20.GL_LINE_LOOP, 0, segments + 1);
-        
-        // === 2. RIN EXTERIOR (plateado) ===
-        float rimRadius = (float) (radius * 0.85);
-        float[] rimVertices = new float[(segments + 1) * 3];
-        for (int i = 0; i <= segments; i++) {
-            double angle = (i / (double) segments) * TWO_PI;
-            rimVertices[i * 3] = (float) (centerX + rimRadius * Math.cos(angle));
-            rimVertices[i * 3 + 1] = (float) (centerY + rimRadius * Math.sin(angle));
-            rimVertices[i * 3 + 2] = 0f;
-        }
-        FloatBuffer rimBuffer = createFloatBuffer(rimVertices);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, rimBuffer);
-        GLES20.glUniform4f(colorHandle, 0.75f, 0.75f, 0.8f, 1.0f); // Plateado
-        GLES20.glLineWidth(3f);
-        GLES20.glDrawArrays(GLES20.GL_LINE_LOOP, 0, segments + 1);
-        
-        // === 3. RIN INTERIOR (plateado más oscuro) ===
-        float innerRimRadius = (float) (radius * 0.20);
-        float[] innerRimVertices = new float[(segments + 1) * 3];
-        for (int i = 0; i <= segments; i++) {
-            double angle = (i / (double) segments) * TWO_PI;
-            innerRimVertices[i * 3] = (float) (centerX + innerRimRadius * Math.cos(angle));
-            innerRimVertices[i * 3 + 1] = (float) (centerY + innerRimRadius * Math.sin(angle));
-            innerRimVertices[i * 3 + 2] = 0f;
-        }
-        FloatBuffer innerRimBuffer = createFloatBuffer(innerRimVertices);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, innerRimBuffer);
-        GLES20.glUniform4f(colorHandle, 0.6f, 0.6f, 0.65f, 1.0f); // Plateado oscuro
-        GLES20.glLineWidth(4f);
-        GLES20.glDrawArrays(GLES20.GL_LINE_LOOP, 0, segments + 1);
-        
-        // === 4. BUJE CENTRAL (relleno oscuro) ===
-        float hubRadius = (float) (radius * 0.08);
-        int hubSegments = 24;
-        float[] hubVertices = new float[(hubSegments + 2) * 3]; // +2 para el centro y cierre
-        // Centro del buje
-        hubVertices[0] = (float) centerX;
-        hubVertices[1] = (float) centerY;
-        hubVertices[2] = 0f;
-        for (int i = 0; i <= hubSegments; i++) {
-            double angle = (i / (double) hubSegments) * TWO_PI;
-            hubVertices[(i + 1) * 3] = (float) (centerX + hubRadius * Math.cos(angle));
-            hubVertices[(i + 1) * 3 + 1] = (float) (centerY + hubRadius * Math.sin(angle));
-            hubVertices[(i + 1) * 3 + 2] = 0f;
-        }
-        FloatBuffer hubBuffer = createFloatBuffer(hubVertices);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, hubBuffer);
-        GLES20.glUniform4f(colorHandle, 0.3f, 0.3f, 0.35f, 1.0f); // Gris oscuro
-        GLES20.glDrawArrays(GLES20.GL_TRIANGLE_FAN, 0, hubSegments + 2);
-        
-        GLES20.glDisableVertexAttribArray(positionHandle);
+    private void rebuildTrail() {
+        cycloidTrailBuffer.clear();
+        areaStrip.clear();
+        lastTrailTheta = 0.0;
+        trailHasTip = false;
+        trailPixelsPerUnit = trailPixelsPerUnit();
+        if (completedArches > 0) {
+            rebuildArchTemplate(trailPixelsPerUnit);
+        }
+        if (currentTheta <= 0) return;
+
+        extendTrail();
     }
-    
+
     /**
-     * Helper para crear FloatBuffer
+     * Vuelve a teselar el arco completo de la plantilla con la escala actual
      */
-    private FloatBuffer createFloatBuffer(float[] vertices) {
-        ByteBuffer bb = ByteBuffer.allocateDirect(vertices.length * 4);
-        bb.order(ByteOrder.nativeOrder());
-        FloatBuffer buffer = bb.asFloatBuffer();
-        buffer.put(vertices);
-        buffer.position(0);
-        return buffer;
+    private void rebuildArchTemplate(double pixelsPerUnit) {
+        archTrailBuffer.clear();
+        archAreaStrip.clear();
+
+        double period = curve.period();
+        trailThetas[0] = 0.0;
+        int count = 1;
+        double theta = 0.0;
+        while (true) {
+            curve.evaluate(trailThetas, 0, count, trailPositions, 0);
+            for (int i = 0; i < count; i++) {
+                float x = trailPositions[RollingCurve.STRIDE * i];
+                float y = trailPositions[RollingCurve.STRIDE * i + 1];
+                archTrailBuffer.append(x, y, 0f);
+                appendArea(archAreaStrip, x, y);
+            }
+            if (theta >= period) break;
+            count = tessellator.planThetas(curve, theta, period, pixelsPerUnit, trailThetas);
+            theta = trailThetas[count - 1];
+        }
+    }
+
+    private void removeLastTrailPoint() {
+        cycloidTrailBuffer.removeLast();
+        areaStrip.removeLastPoint();
     }
 
     /**
-     * Dibuja los radios de la rueda estilo bicicleta
-     * Con patrón cruzado realista
+     * Añade al trazo los count primeros θ de trailThetas, evaluados en un solo lote
      */
-    private void drawSpokes() {
-        double centerX = currentTheta * radius;
-        double centerY = radius;
+    private void addTrailPoints(int count) {
+        curve.evaluate(trailThetas, 0, count, trailPositions, 0);
 
-        int numSpokes = 16; // Número de radios por lado
-        float innerRadius = (float) (radius * 0.10); // Desde el buje
-        float outerRadius = (float) (radius * 0.83); // Hasta el rin
-        
-        // Crear radios con patrón cruzado (como rueda de bicicleta real)
-        List<Float> spokeVertices = new ArrayList<>();
-        
-        for (int i = 0; i < numSpokes; i++) {
-            // Radio que va hacia la derecha (cruzado)
-            double angle1 = -currentTheta + (i * TWO_PI / numSpokes);
-            double angle2 = -currentTheta + ((i + 2) * TWO_PI / numSpokes); // Cruzado 2 posiciones
-            
-            // Desde el buje
-            spokeVertices.add((float) (centerX + innerRadius * Math.cos(angle1)));
-            spokeVertices.add((float) (centerY + innerRadius * Math.sin(angle1)));
-            spokeVertices.add(0f);
-            
-            // Hasta el rin (cruzado)
-            spokeVertices.add((float) (centerX + outerRadius * Math.cos(angle2)));
-            spokeVertices.add((float) (centerY + outerRadius * Math.sin(angle2)));
-            spokeVertices.add(0f);
-        }
-        
-        // Segundo set de radios cruzados en dirección opuesta
-        for (int i = 0; i < numSpokes; i++) {
-            double angle1 = -currentTheta + ((i + 0.5) * TWO_PI / numSpokes);
-            double angle2 = -currentTheta + ((i - 1.5) * TWO_PI / numSpokes);
-            
-            spokeVertices.add((float) (centerX + innerRadius * Math.cos(angle1)));
-            spokeVertices.add((float) (centerY + innerRadius * Math.sin(angle1)));
-            spokeVertices.add(0f);
-            
-            spokeVertices.add((float) (centerX + outerRadius * Math.cos(angle2)));
-            spokeVertices.add((float) (centerY + outerRadius * Math.sin(angle2)));
-            spokeVertices.add(0f);
-        }
-        
-        float[] vertices = new float[spokeVertices.size()];
-        for (int i = 0; i < spokeVertices.size(); i++) {
-            vertices[i] = spokeVertices.get(i);
-        }
+        for (int i = 0; i < count; i++) {
+            float x = trailPositions[RollingCurve.STRIDE * i];
+            float y = trailPositions[RollingCurve.STRIDE * i + 1];
+            float z = 0f;
 
-        spokesBuffer = createFloatBuffer(vertices);
+            // Anexar solo el vértice nuevo al buffer del trazo (O(1) amortizado)
+            cycloidTrailBuffer.append(x, y, z);
 
-        GLES20.glUseProgram(shaderProgram);
+            // Extender el área con los dos vértices del nuevo punto
+            appendArea(areaStrip, x, y);
+        }
+    }
 
-        int positionHandle = GLES20.glGetAttribLocation(shaderProgram, "vPosition");
-        int colorHandle = GLES20.glGetUniformLocation(shaderProgram, "vColor");
-        int mvpMatrixHandle = GLES20.glGetUniformLocation(shaderProgram, "uMVPMatrix");
+    /**
+     * Punto del área con su base: en el eje X o en el centro del círculo fijo
+     */
+    private void appendArea(AreaStrip strip, float x, float y) {
+        if (areaToAxis) {
+            strip.appendPoint(x, y);
+        } else {
+            strip.appendPoint(x, y, 0f, 0f);
+        }
+    }
 
-        GLES20.glEnableVertexAttribArray(positionHandle);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, spokesBuffer);
+    /**
+     * Dibuja el trazo del cicloide
+     */
+    private void drawCycloidTrail() {
+        // Arcos anteriores (modo continuo) y después el arco en curso
+        for (int arch = visiblePastArches(); arch >= 1; arch--) {
+            program.setMvpMatrix(archMvpMatrix(arch));
+            drawTrailBuffer(archTrailBuffer);
+        }
+        if (visiblePastArches() > 0) {
+            program.setMvpMatrix(viewProjectionMatrix);
+        }
+        drawTrailBuffer(cycloidTrailBuffer);
+    }
 
-        // Color plateado metálico para los radios
-        GLES20.glUniform4f(colorHandle, 0.7f, 0.7f, 0.75f, 0.9f);
+    private void drawTrailBuffer(GrowableVertexBuffer trail) {
+        int vertexCount = trail.vertexCount();
+        if (vertexCount < 2) return;
 
-        Matrix.multiplyMM(tempMatrix, 0, viewMatrix, 0, modelMatrix, 0);
-        Matrix.multiplyMM(mvpMatrix, 0, projectionMatrix, 0, tempMatrix, 0);
-        GLES20.glUniformMatrix4fv(mvpMatrixHandle, 1, false, mvpMatrix, 0);
+        int positionHandle = program.positionHandle();
 
-        GLES20.glLineWidth(1.5f);
-        GLES20.glDrawArrays(GLES20.GL_LINES, 0, vertices.length / 3);
+        gl.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, trail.buffer());
 
-        GLES20.glDisableVertexAttribArray(positionHandle);
+        drawTrailLine(program, vertexCount);
     }
 
     /**
-     * Dibuja el punto trazador
+     * Vista-proyección del arco que quedó arch arcos por detrás del actual
      */
-    private void drawTracerPoint() {
-        if (!isAnimating && !animationComplete) return;
-
-        double centerX = currentTheta * radius;
-        double centerY = radius;
-        double rotationAngle = -currentTheta;
+    private float[] archMvpMatrix(int arch) {
+        Matrix.setIdentityM(archModelMatrix, 0);
+        Matrix.translateM(archModelMatrix, 0, (float) (-arch * curve.archShift()), 0f, 0f);
+        Matrix.multiplyMM(archMvpMatrix, 0, viewProjectionMatrix, 0, archModelMatrix, 0);
+        return archMvpMatrix;
+    }
 
-        float pointX = (float) (centerX + radius * Math.sin(rotationAngle));
-        float pointY = (float) (centerY - radius * Math.cos(rotationAngle));
+    /**
+     * Dibuja la línea del trazo con los vértices ya enlazados
+     */
+    private void drawTrailLine(ShaderProgram target, int vertexCount) {
+        // Color azul vibrante
+        target.setColor(0.2f, 0.5f, 1.0f, 1.0f);
 
-        // Dibujar como un pequeño cuadrado (2 triángulos)
-        float size = (float) (radius * 0.2f);
-        float[] vertices = {
-                pointX - size, pointY - size, 0f,
-                pointX + size, pointY - size, 0f,
-                pointX + size, pointY + size, 0f,
-                pointX - size, pointY + size, 0f
-        };
+        gl.glLineWidth(6f);
+        drawArrays(GLES20.GL_LINE_STRIP, 0, vertexCount);
+    }
 
-        ByteBuffer bb = ByteBuffer.allocateDirect(vertices.length * 4);
-        bb.order(ByteOrder.nativeOrder());
-        FloatBuffer buffer = bb.asFloatBuffer();
-        buffer.put(vertices);
-        buffer.position(0);
+    /**
+     * Dibuja área y trazo evaluando el cicloide en el vertex shader
+     * La malla de parámetros es estática: por frame solo cambian a y θmax
+     */
+    private void drawCurveOnGpu() {
+        if (currentTheta <= 0 && completedArches == 0) return;
 
-        GLES20.glUseProgram(shaderProgram);
+        paramProgram.bind();
 
-        int positionHandle = GLES20.glGetAttribLocation(shaderProgram, "vPosition");
-        int colorHandle = GLES20.glGetUniformLocation(shaderProgram, "vColor");
-        int mvpMatrixHandle = GLES20.glGetUniformLocation(shaderProgram, "uMVPMatrix");
+        // Arcos anteriores completos (θmax = 2π) y el arco en curso
+        for (int arch = visiblePastArches(); arch >= 1; arch--) {
+            paramProgram.setMvpMatrix(archMvpMatrix(arch));
+            drawParamCurve((float) TWO_PI);
+        }
+        if (currentTheta > 0) {
+            paramProgram.setMvpMatrix(viewProjectionMatrix);
+            drawParamCurve((float) currentTheta);
+        }
 
-        GLES20.glEnableVertexAttribArray(positionHandle);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, buffer);
+        paramVertexBuffer.unbind();
+        paramProgram.unbind();
+    }
 
-        // Color rojo brillante para el punto trazador
-        GLES20.glUniform4f(colorHandle, 1.0f, 0.2f, 0.2f, 1.0f);
+    /**
+     * Área y trazo de la malla de parámetros hasta θmax (programa ya enlazado)
+     */
+    private void drawParamCurve(float thetaMax) {
+        paramProgram.setCurve((float) radius, thetaMax);
 
-        Matrix.multiplyMM(tempMatrix, 0, viewMatrix, 0, modelMatrix, 0);
-        Matrix.multiplyMM(mvpMatrix, 0, projectionMatrix, 0, tempMatrix, 0);
-        GLES20.glUniformMatrix4fv(mvpMatrixHandle, 1, false, mvpMatrix, 0);
+        int paramHandle = paramProgram.positionHandle();
 
-        GLES20.glDrawArrays(GLES20.GL_TRIANGLE_FAN, 0, 4);
+        // Área: todos los vértices (curva y eje) como tira de triángulos
+        paramVertexBuffer.bindAttribute(paramHandle, CycloidParamMesh.COMPONENTS,
+                CycloidParamMesh.BYTES_PER_VERTEX, 0);
+        drawAreaPasses(paramProgram, paramMesh.areaVertexCount());
 
-        GLES20.glDisableVertexAttribArray(positionHandle);
+        // Trazo: solo los vértices de la curva (stride doble)
+        paramVertexBuffer.bindAttribute(paramHandle, CycloidParamMesh.COMPONENTS,
+                paramMesh.trailStrideBytes(), 0);
+        drawTrailLine(paramProgram, paramMesh.trailVertexCount());
     }
 
     /**
-     * Dibuja los ejes de coordenadas
+     * Dibuja los trazos de la escena de comparación evaluados en la GPU
+     *
+     * Con instanciado el coste por frame es una llamada y, solo si el progreso
+     * cambió, una subida de 28 bytes por instancia; sin él, una llamada y dos
+     * atributos constantes por instancia, con la malla enlazada una vez.
      */
-    private void drawAxis() {
-        if (axisBuffer == null) return;
-
-        GLES20.glUseProgram(shaderProgram);
+    private void drawScene() {
+        int count = scene.size();
+        if (count == 0) return;
+
+        instanceProgram.bind();
+        instanceProgram.setMvpMatrix(viewProjectionMatrix);
+        paramVertexBuffer.bindAttribute(instanceProgram.positionHandle(), CycloidParamMesh.COMPONENTS,
+                paramMesh.trailStrideBytes(), 0);
+        gl.glLineWidth(3f);
+
+        if (instancedDrawing) {
+            if (scene.isDirty()) {
+                FloatBuffer data = frameArena.acquire(count * CycloidScene.FLOATS_PER_INSTANCE);
+                scene.write(data);
+                instanceBuffer.upload(data);
+            }
+            instanceProgram.bindInstanceArrays(instanceBuffer);
+            gl.glDrawArraysInstanced(GLES20.GL_LINE_STRIP, 0, paramMesh.trailVertexCount(), count);
+            frameDrawCalls++;
+            instanceProgram.unbindInstanceArrays(instanceBuffer);
+        } else {
+            for (int i = 0; i < count; i++) {
+                instanceProgram.setInstance(scene.get(i));
+                drawArrays(GLES20.GL_LINE_STRIP, 0, paramMesh.trailVertexCount());
+            }
+        }
 
-        int positionHandle = GLES20.glGetAttribLocation(shaderProgram, "vPosition");
-        int colorHandle = GLES20.glGetUniformLocation(shaderProgram, "vColor");
-        int mvpMatrixHandle = GLES20.glGetUniformLocation(shaderProgram, "uMVPMatrix");
+        paramVertexBuffer.unbind();
+        instanceProgram.unbind();
+    }
 
-        GLES20.glEnableVertexAttribArray(positionHandle);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, axisBuffer);
+    /**
+     * Dibuja la rueda realista (neumático, rines, buje y radios) y el trazador
+     * Malla en lote del VBO estático: una llamada por matriz de modelo
+     */
+    private void drawWheel() {
+        wheelProgram.bind();
 
-        GLES20.glUniform4f(colorHandle, 0.7f, 0.7f, 0.7f, 1.0f);
+        // Rueda y trazador comparten el VBO intercalado: se enlaza una vez
+        wheelVertexBuffer.bind();
+        wheelVertexBuffer.attribute(wheelProgram.positionHandle(), 3, WheelMesh.STRIDE_BYTES, 0);
+        wheelVertexBuffer.attribute(wheelProgram.colorAttributeHandle(), 4,
+                WheelMesh.STRIDE_BYTES, WheelMesh.COLOR_OFFSET_BYTES);
 
-        Matrix.multiplyMM(tempMatrix, 0, viewMatrix, 0, modelMatrix, 0);
-        Matrix.multiplyMM(mvpMatrix, 0, projectionMatrix, 0, tempMatrix, 0);
-        GLES20.glUniformMatrix4fv(mvpMatrixHandle, 1, false, mvpMatrix, 0);
+        wheelProgram.setMvpMatrix(wheelMvpMatrix);
+        drawArrays(GLES20.GL_TRIANGLES, wheelBaseVertex + wheelMesh.wheelFirst, wheelMesh.wheelCount);
 
-        GLES20.glLineWidth(2f);
-        GLES20.glDrawArrays(GLES20.GL_LINES, 0, 2);
+        // El trazador no gira con la rueda: solo cambia la matriz
+        wheelProgram.setMvpMatrix(tracerMvpMatrix);
+        drawArrays(GLES20.GL_TRIANGLES, wheelBaseVertex + wheelMesh.tracerFirst, wheelMesh.tracerCount);
 
-        GLES20.glDisableVertexAttribArray(positionHandle);
+        wheelVertexBuffer.unbind();
+        wheelProgram.unbind();
     }
 
     /**
-     * Dibuja el área bajo la curva con efecto de brillo al completar
+     * glDrawArrays contando las llamadas del frame
      */
-    private void drawArea() {
-        if (trailPoints.size() < 2) return;
-
-        // Crear triángulos para el área
-        List<Float> areaVertices = new ArrayList<>();
+    private void drawArrays(int mode, int first, int count) {
+        gl.glDrawArrays(mode, first, count);
+        frameDrawCalls++;
+    }
 
-        for (int i = 0; i < trailPoints.size() - 1; i++) {
-            float[] p1 = trailPoints.get(i);
-            float[] p2 = trailPoints.get(i + 1);
+    /**
+     * Dibuja los ejes de coordenadas
+     */
+    private void drawAxis() {
+        if (axisVertexBuffer == null) return;
 
-            // Triángulo 1
-            areaVertices.add(p1[0]);
-            areaVertices.add(0f);
-            areaVertices.add(0f);
+        int positionHandle = program.positionHandle();
 
-            areaVertices.add(p1[0]);
-            areaVertices.add(p1[1]);
-            areaVertices.add(0f);
+        axisVertexBuffer.bindPosition(positionHandle);
 
-            areaVertices.add(p2[0]);
-            areaVertices.add(p2[1]);
-            areaVertices.add(0f);
+        program.setColor(0.7f, 0.7f, 0.7f, 1.0f);
 
-            // Triángulo 2
-            areaVertices.add(p1[0]);
-            areaVertices.add(0f);
-            areaVertices.add(0f);
+        // En modo continuo el eje empieza en el arco visible más antiguo
+        int pastArches = visiblePastArches();
+        if (pastArches > 0) {
+            program.setMvpMatrix(archMvpMatrix(pastArches));
+        }
 
-            areaVertices.add(p2[0]);
-            areaVertices.add(p2[1]);
-            areaVertices.add(0f);
+        gl.glLineWidth(2f);
+        drawArrays(GLES20.GL_LINES, 0, 2);
 
-            areaVertices.add(p2[0]);
-            areaVertices.add(0f);
-            areaVertices.add(0f);
+        if (pastArches > 0) {
+            program.setMvpMatrix(viewProjectionMatrix);
         }
+        axisVertexBuffer.unbind();
+    }
 
-        float[] vertices = new float[areaVertices.size()];
-        for (int i = 0; i < areaVertices.size(); i++) {
-            vertices[i] = areaVertices.get(i);
+    /**
+     * Dibuja el área bajo la curva con efecto de brillo al completar
+     */
+    private void drawArea() {
+        for (int arch = visiblePastArches(); arch >= 1; arch--) {
+            program.setMvpMatrix(archMvpMatrix(arch));
+            drawAreaStrip(archAreaStrip);
+        }
+        if (visiblePastArches() > 0) {
+            program.setMvpMatrix(viewProjectionMatrix);
         }
+        drawAreaStrip(areaStrip);
+    }
 
-        areaBuffer = createFloatBuffer(vertices);
+    private void drawAreaStrip(AreaStrip strip) {
+        int vertexCount = strip.vertexCount();
+        if (strip.pointCount() < 2) return;
 
-        GLES20.glUseProgram(shaderProgram);
+        int positionHandle = program.positionHandle();
 
-        int positionHandle = GLES20.glGetAttribLocation(shaderProgram, "vPosition");
-        int colorHandle = GLES20.glGetUniformLocation(shaderProgram, "vColor");
-        int mvpMatrixHandle = GLES20.glGetUniformLocation(shaderProgram, "uMVPMatrix");
+        gl.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, strip.buffer());
 
-        GLES20.glEnableVertexAttribArray(positionHandle);
-        GLES20.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, areaBuffer);
+        drawAreaPasses(program, vertexCount);
+    }
 
+    /**
+     * Dibuja la tira del área (y la capa de brillo) con los vértices ya enlazados
+     */
+    private void drawAreaPasses(ShaderProgram target, int vertexCount) {
         // Calcular color con efecto de brillo
         float baseAlpha = 0.3f;
         
@@ -626,32 +1039,26 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
             float b = 0.39f + glowIntensity * 0.4f;   // Más cyan/claro
             float a = baseAlpha + glowIntensity * 0.4f; // Más visible durante el brillo
             
-            GLES20.glUniform4f(colorHandle, r, g, b, a);
+            target.setColor(r, g, b, a);
         } else {
             // Color normal
-            GLES20.glUniform4f(colorHandle, 0.39f, 0.78f, 0.39f, baseAlpha);
+            target.setColor(0.39f, 0.78f, 0.39f, baseAlpha);
         }
 
-        Matrix.multiplyMM(tempMatrix, 0, viewMatrix, 0, modelMatrix, 0);
-        Matrix.multiplyMM(mvpMatrix, 0, projectionMatrix, 0, tempMatrix, 0);
-        GLES20.glUniformMatrix4fv(mvpMatrixHandle, 1, false, mvpMatrix, 0);
-
-        GLES20.glDrawArrays(GLES20.GL_TRIANGLES, 0, vertices.length / 3);
+        drawArrays(GLES20.GL_TRIANGLE_STRIP, 0, vertexCount);
         
         // Dibujar capa adicional de brillo verde claro cuando está activo
         if (areaGlowActive && areaGlowAlpha > 0.2f) {
             float glowAlpha = areaGlowAlpha * 0.25f;
             
             // Capa de brillo verde claro/menta encima
-            GLES20.glUniform4f(colorHandle, 0.6f, 1.0f, 0.7f, glowAlpha);
-            GLES20.glDrawArrays(GLES20.GL_TRIANGLES, 0, vertices.length / 3);
+            target.setColor(0.6f, 1.0f, 0.7f, glowAlpha);
+            drawArrays(GLES20.GL_TRIANGLE_STRIP, 0, vertexCount);
         }
-
-        GLES20.glDisableVertexAttribArray(positionHandle);
     }
 
     /**
-     * Inicializa geometría estática
+     * Inicializa geometría estática y la sube a la GPU una sola vez
      */
     private void initializeStaticGeometry() {
         // Eje X - extendido para soportar radios grandes
@@ -659,28 +1066,25 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
                 0f, 0f, 0f,
                 (float) (TWO_PI * 10000), 0f, 0f
         };
+        axisVertexBuffer = new StaticVertexBuffer(gl, axisVertices, 3, bufferPool);
 
-        ByteBuffer bb = ByteBuffer.allocateDirect(axisVertices.length * 4);
-        bb.order(ByteOrder.nativeOrder());
-        axisBuffer = bb.asFloatBuffer();
-        axisBuffer.put(axisVertices);
-        axisBuffer.position(0);
-    }
+        // Rueda y trazador en radio unitario, todos los niveles de detalle en un VBO
+        wheelVertexBuffer = new StaticVertexBuffer(gl, wheelLod.vertices(),
+                WheelMesh.FLOATS_PER_VERTEX, bufferPool);
 
-    /**
-     * Carga un shader
-     */
-    private int loadShader(int type, String shaderCode) {
-        int shader = GLES20.glCreateShader(type);
-        GLES20.glShaderSource(shader, shaderCode);
-        GLES20.glCompileShader(shader);
-        return shader;
+        // Parámetros (t, flag) del cicloide para el modo GPU
+        paramVertexBuffer = new StaticVertexBuffer(gl, paramMesh.vertices(),
+                CycloidParamMesh.COMPONENTS, bufferPool);
     }
 
     /**
-     * Rota la cámara (sistema orbital)
+     * Rota la cámara (sistema orbital); los deltas de un mismo frame se suman
      */
     public void rotateCamera(float deltaX, float deltaY) {
+        commandQueue.addRotation(deltaX, deltaY);
+    }
+
+    private void applyCameraRotation(float deltaX, float deltaY) {
         cameraRotationX += deltaX;
         cameraRotationY += deltaY;
 
@@ -692,41 +1096,137 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
         if (cameraRotationY < 0f) cameraRotationY += 360f;
     }
 
+    /**
+     * Activa la medición de tiempos por etapa (cualquier hilo)
+     */
+    public void setProfilingEnabled(boolean enabled) {
+        profiler.setEnabled(enabled);
+    }
+
+    /**
+     * Percentiles de las últimas muestras (cualquier hilo; reserva memoria)
+     */
+    public String profilerSummary() {
+        return profiler.summary();
+    }
+
+    /**
+     * Jank de los frames del hilo GL (contadores legibles desde cualquier hilo)
+     */
+    public FramePacingStats framePacing() {
+        return framePacing;
+    }
+
+    /**
+     * Modo continuo: traza arches arcos seguidos (UNLIMITED_ARCHES = sin fin) con
+     * la cámara siguiendo a la rueda y pastArches arcos anteriores a la vista.
+     * Con arches = 1 es el barrido único original. Se aplica al próximo inicio.
+     */
+    public void setStreaming(final int arches, final int pastArches) {
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                archLimit = Math.max(arches, UNLIMITED_ARCHES);
+                keptArches = Math.max(pastArches, 0);
+            }
+        });
+    }
+
+    /**
+     * Sustituye la escena de comparación y reinicia su progreso (null = vacía)
+     *
+     * La escena pasa al hilo GL: la UI no debe modificarla después.
+     */
+    public void setScene(final CycloidScene newScene) {
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                scene = newScene != null ? newScene : new CycloidScene();
+                scene.restart();
+                sceneAnimating = scene.isAnimating();
+                scenePaused = false;
+            }
+        });
+    }
+
+    /**
+     * Memoria directa del pool (métricas legibles desde cualquier hilo)
+     */
+    public DirectBufferPool bufferPool() {
+        return bufferPool;
+    }
+
     /**
      * Ajusta la distancia de la cámara (zoom) con animación suave
      */
-    public void setCameraDistance(float distance) {
-        this.targetCameraDistance = distance;
+    public void setCameraDistance(final float distance) {
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                targetCameraDistance = distance;
+            }
+        });
     }
     
     /**
      * Ajusta la distancia de la cámara inmediatamente (sin animación)
      */
-    public void setCameraDistanceImmediate(float distance) {
-        this.cameraDistance = distance;
-        this.targetCameraDistance = distance;
+    public void setCameraDistanceImmediate(final float distance) {
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                cameraDistance = distance;
+                targetCameraDistance = distance;
+            }
+        });
     }
 
     /**
-     * Calcula la distancia óptima de la cámara según el radio
+     * Calcula la distancia óptima de la cámara según el tamaño de la curva
      * El cicloide se extiende 2*PI*radius en X, necesitamos ver todo el ancho
      */
-    private float calculateOptimalCameraDistance(double radius) {
+    private float calculateOptimalCameraDistance(RollingCurve curve) {
         // El ancho total del cicloide es 2*PI*radius ≈ 6.28*radius
-        // Para ver todo correctamente, usamos un factor de 12
+        // Para ver todo correctamente, usamos un factor de 12 (12/2π del ancho)
         // Esto asegura que incluso con radio 10000 (ancho ~62832) se vea completo
-        return (float) (radius * 12);
+        return (float) (curve.extent() * 12 / TWO_PI);
+    }
+
+    /**
+     * Inicia la animación del cicloide de radio radius (se aplica en el próximo frame)
+     */
+    public void startAnimation(final double radius) {
+        startAnimation(new CycloidKernel(radius));
     }
 
     /**
-     * Inicia la animación
+     * Inicia la animación de cualquier curva de rueda (se aplica en el próximo frame)
+     *
+     * El modo GPU solo acelera el cicloide; el modo continuo, las trocoides.
      */
-    public void startAnimation(double radius) {
-        this.radius = radius;
+    public void startAnimation(final RollingCurve newCurve) {
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                applyStartAnimation(newCurve);
+            }
+        });
+    }
+
+    private void applyStartAnimation(RollingCurve newCurve) {
+        this.curve = newCurve;
+        this.radius = newCurve.radius();
+        this.areaToAxis = newCurve.fillsToAxis();
         this.currentTheta = 0.0;
         this.isAnimating = true;
         this.animationComplete = false;
-        this.trailPoints.clear();
+        this.cycloidTrailBuffer.clear();
+        this.areaStrip.clear();
+        this.archTrailBuffer.clear();
+        this.archAreaStrip.clear();
+        this.completedArches = 0;
+        this.lastTrailTheta = 0.0;
+        this.trailHasTip = false;
         
         // Resetear animación de brillo
         this.areaGlowActive = false;
@@ -735,20 +1235,76 @@ public class CycloidGLRenderer implements GLSurfaceView.Renderer {
         this.glowHoldCounter = 0f;
 
         // Calcular y establecer la distancia óptima de la cámara con animación suave
-        this.targetCameraDistance = calculateOptimalCameraDistance(radius);
+        this.targetCameraDistance = calculateOptimalCameraDistance(newCurve);
+
+        // Escala de referencia del teselado para este barrido
+        this.trailPixelsPerUnit = trailPixelsPerUnit();
+    }
+
+    // Estado para pruebas (leer solo desde el hilo GL)
+    boolean isAnimationComplete() {
+        return animationComplete;
+    }
+
+    int trailPointCount() {
+        return cycloidTrailBuffer.vertexCount();
+    }
+
+    long completedArches() {
+        return completedArches;
+    }
+
+    double currentTheta() {
+        return currentTheta;
+    }
+
+    /**
+     * Vértices reservados por el trazo y el área (arco en curso y plantilla)
+     */
+    int trailVertexCapacity() {
+        return cycloidTrailBuffer.vertexCapacity() + archTrailBuffer.vertexCapacity()
+                + areaStrip.vertexCapacity() + archAreaStrip.vertexCapacity();
+    }
+
+    int wheelLodLevel() {
+        return wheelLevel;
+    }
+
+    boolean isInstancedDrawing() {
+        return instancedDrawing;
+    }
+
+    /**
+     * Llamadas a glDrawArrays del último frame dibujado
+     */
+    int drawCallsLastFrame() {
+        return lastFrameDrawCalls;
     }
 
     /**
      * Pausa la animación
      */
     public void pauseAnimation() {
-        isAnimating = false;
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                isAnimating = false;
+                scenePaused = true;
+            }
+        });
     }
 
     /**
      * Reanuda la animación
      */
     public void resumeAnimation() {
-        isAnimating = true;
+        commandQueue.post(new Runnable() {
+            @Override
+            public void run() {
+                // Un barrido terminado no se reanuda (seguiría pidiendo frames)
+                isAnimating = !animationComplete;
+                scenePaused = false;
+            }
+        });
     }
 }
\ No newline at end of file
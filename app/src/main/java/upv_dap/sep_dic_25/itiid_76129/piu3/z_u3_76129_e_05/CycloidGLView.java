@@ -4,7 +4,9 @@ package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
 import android.content.Context;
 import android.opengl.GLSurfaceView;
 import android.util.AttributeSet;
+import android.view.Display;
 import android.view.MotionEvent;
+import java.io.File;
 
 /**
  * CycloidGLView - Vista OpenGL para renderizado 3D del cicloide
@@ -13,6 +15,9 @@ import android.view.MotionEvent;
 public class CycloidGLView extends GLSurfaceView {
 
     private CycloidGLRenderer renderer;
+    private RenderScheduler renderScheduler;
+    // Hora de los frames del hilo GL alineada con los vsync de la pantalla
+    private final VsyncClock vsyncClock = new VsyncClock(FramePacingStats.DEFAULT_REFRESH_HZ);
 
     // Variables para el control táctil
     private float previousX;
@@ -31,15 +36,32 @@ public class CycloidGLView extends GLSurfaceView {
     }
 
     private void init() {
-        // Configurar OpenGL ES 2.0
+        // Configurar OpenGL ES 2.0 (3.0 si el dispositivo lo soporta)
         setEGLContextClientVersion(2);
+        setEGLContextFactory(new GLContextFactory());
 
-        // Crear y asignar el renderer
-        renderer = new CycloidGLRenderer();
+        // Crear y asignar el renderer; los binarios de shaders van a la caché de código
+        renderer = new CycloidGLRenderer(new File(getContext().getCodeCacheDir(), "shaders"), vsyncClock);
         setRenderer(renderer);
 
-        // Renderizar continuamente para la animación
-        setRenderMode(GLSurfaceView.RENDERMODE_CONTINUOUSLY);
+        // Renderizar solo cuando algo cambia: el renderer pide el siguiente frame
+        // mientras haya animación y la vista lo pide ante toques u órdenes
+        renderScheduler = new RenderScheduler(new RenderScheduler.RenderRequester() {
+            @Override
+            public void requestRender() {
+                CycloidGLView.this.requestRender();
+            }
+        }, System.nanoTime());
+        renderer.setRenderScheduler(renderScheduler);
+        setRenderMode(GLSurfaceView.RENDERMODE_WHEN_DIRTY);
+    }
+
+    /**
+     * Pide un frame y escucha los vsync mientras el renderer siga dibujando
+     */
+    private void requestFrame() {
+        vsyncClock.start();
+        renderScheduler.requestFrame();
     }
 
     /**
@@ -47,6 +69,15 @@ public class CycloidGLView extends GLSurfaceView {
      */
     public void startAnimation(double radius) {
         renderer.startAnimation(radius);
+        requestFrame();
+    }
+
+    /**
+     * Inicia la animación de otra curva de rueda (trocoide, epicicloide, hipocicloide)
+     */
+    public void startAnimation(RollingCurve curve) {
+        renderer.startAnimation(curve);
+        requestFrame();
     }
 
     /**
@@ -61,6 +92,84 @@ public class CycloidGLView extends GLSurfaceView {
      */
     public void resumeAnimation() {
         renderer.resumeAnimation();
+        requestFrame();
+    }
+
+    /**
+     * Calcula área y trazo en el vertex shader en lugar de en la CPU
+     */
+    public void setGpuEvaluation(boolean enabled) {
+        renderer.setGpuEvaluation(enabled);
+        requestFrame();
+    }
+
+    /**
+     * Mide el tiempo de CPU (y GPU si se puede) de cada etapa del frame
+     */
+    public void setProfilingEnabled(boolean enabled) {
+        renderer.setProfilingEnabled(enabled);
+        requestFrame();
+    }
+
+    /**
+     * Tabla p50/p95/p99 por etapa de los últimos frames medidos
+     */
+    public String getProfilerSummary() {
+        return renderer.profilerSummary();
+    }
+
+    /**
+     * Frames del hilo GL fuera de plazo durante las animaciones
+     */
+    public FramePacingStats getFramePacing() {
+        return renderer.framePacing();
+    }
+
+    /**
+     * Modo continuo de arches arcos (0 = sin fin) con pastArches arcos anteriores visibles
+     */
+    public void setStreaming(int arches, int pastArches) {
+        renderer.setStreaming(arches, pastArches);
+        requestFrame();
+    }
+
+    /**
+     * Superpone una escena de cicloides de comparación (null = ninguna)
+     */
+    public void setScene(CycloidScene scene) {
+        renderer.setScene(scene);
+        requestFrame();
+    }
+
+    /**
+     * Memoria directa reservada y reutilizada por el renderer
+     */
+    public DirectBufferPool getBufferPool() {
+        return renderer.bufferPool();
+    }
+
+    @Override
+    protected void onAttachedToWindow() {
+        super.onAttachedToWindow();
+        // Periodo de vsync de la pantalla real (60, 90, 120 Hz...)
+        Display display = getDisplay();
+        if (display != null) {
+            renderer.framePacing().setRefreshRate(display.getRefreshRate());
+            vsyncClock.setRefreshRate(display.getRefreshRate());
+        }
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        vsyncClock.stop();
+        super.onDetachedFromWindow();
+    }
+
+    /**
+     * Frames dibujados por minuto con la escena en reposo (métrica de consumo)
+     */
+    public double getIdleFramesPerMinute() {
+        return renderScheduler.idleFramesPerMinute(System.nanoTime());
     }
 
     @Override
@@ -87,6 +196,9 @@ public class CycloidGLView extends GLSurfaceView {
 
                 previousX = x;
                 previousY = y;
+
+                // Redibujar con la nueva orientación de cámara
+                requestFrame();
                 break;
         }
 
@@ -0,0 +1,57 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * CycloidInstance - Un cicloide de la escena de comparación
+ *
+ * El punto trazador parte del ángulo φ (fase) sobre la rueda de radio a:
+ * x = a(θ − sin(θ + φ)), y = a(1 − cos(θ + φ)); con φ = 0 es el cicloide
+ * normal. El progreso θ avanza de 0 a 2π igual que el barrido principal.
+ */
+public final class CycloidInstance {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    public final double radius;
+    public final double phase;
+    public final float red;
+    public final float green;
+    public final float blue;
+    public final float alpha;
+
+    private double theta = 0.0;
+
+    public CycloidInstance(double radius, double phase, float red, float green, float blue, float alpha) {
+        this.radius = radius;
+        this.phase = phase;
+        this.red = red;
+        this.green = green;
+        this.blue = blue;
+        this.alpha = alpha;
+    }
+
+    /**
+     * Ángulo recorrido, de 0 a 2π
+     */
+    public double theta() {
+        return theta;
+    }
+
+    public boolean isComplete() {
+        return theta >= TWO_PI;
+    }
+
+    /**
+     * Avanza el progreso sin pasar de 2π
+     *
+     * @return true si θ cambió
+     */
+    boolean advance(double deltaTheta) {
+        if (isComplete() || deltaTheta <= 0) return false;
+        theta = Math.min(theta + deltaTheta, TWO_PI);
+        return true;
+    }
+
+    void restart() {
+        theta = 0.0;
+    }
+}
@@ -0,0 +1,83 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.opengl.GLES20;
+
+/**
+ * CycloidInstanceProgram - Evalúa en la GPU los cicloides de una CycloidScene
+ *
+ * Como CycloidParamProgram, pero el radio, el ángulo recorrido, la fase y el
+ * color llegan como atributos por instancia: aInstance = (a, θmax, φ) y aColor.
+ * Con ES 3.0 salen de un VBO con divisor 1 y todas las instancias se dibujan
+ * en una llamada; en ES 2.0 los atributos quedan desactivados y se fijan como
+ * valores constantes con glVertexAttrib4f antes de cada dibujo.
+ */
+public class CycloidInstanceProgram extends ShaderProgram {
+
+    public static final String VERTEX_SHADER =
+            "uniform mat4 uMVPMatrix;" +
+                    "attribute vec2 aParam;" +
+                    "attribute vec3 aInstance;" +
+                    "attribute vec4 aColor;" +
+                    "varying vec4 vVertexColor;" +
+                    "void main() {" +
+                    "  float theta = aParam.x * aInstance.y;" +
+                    "  float angle = theta + aInstance.z;" +
+                    "  float x = aInstance.x * (theta - sin(angle));" +
+                    "  float y = aInstance.x * (1.0 - cos(angle)) * aParam.y;" +
+                    "  gl_Position = uMVPMatrix * vec4(x, y, 0.0, 1.0);" +
+                    "  vVertexColor = aColor;" +
+                    "}";
+
+    private static final int INSTANCE_STRIDE_BYTES = CycloidScene.FLOATS_PER_INSTANCE * 4;
+    private static final int COLOR_OFFSET_BYTES = 3 * 4;
+
+    private final int instanceHandle;
+    private final int colorAttributeHandle;
+
+    public CycloidInstanceProgram(GLApi gl, int programId) {
+        super(gl, programId, "aParam");
+        this.instanceHandle = gl.glGetAttribLocation(programId, "aInstance");
+        this.colorAttributeHandle = gl.glGetAttribLocation(programId, "aColor");
+    }
+
+    /**
+     * glVertexAttribDivisor y glDrawArraysInstanced requieren un contexto ES 3.0+
+     */
+    public static boolean supportsInstancing(GLApi gl) {
+        return String.valueOf(gl.glGetString(GLES20.GL_VERSION)).startsWith("OpenGL ES 3");
+    }
+
+    /**
+     * Toma (a, θmax, φ) y el color de cada instancia del VBO (una fila por instancia)
+     */
+    public void bindInstanceArrays(DynamicVertexBuffer instances) {
+        instances.bind();
+        gl.glEnableVertexAttribArray(instanceHandle);
+        gl.glEnableVertexAttribArray(colorAttributeHandle);
+        instances.attribute(instanceHandle, 3, INSTANCE_STRIDE_BYTES, 0);
+        instances.attribute(colorAttributeHandle, 4, INSTANCE_STRIDE_BYTES, COLOR_OFFSET_BYTES);
+        gl.glVertexAttribDivisor(instanceHandle, 1);
+        gl.glVertexAttribDivisor(colorAttributeHandle, 1);
+    }
+
+    /**
+     * Restaura el divisor: es estado global de cada índice de atributo
+     */
+    public void unbindInstanceArrays(DynamicVertexBuffer instances) {
+        gl.glVertexAttribDivisor(instanceHandle, 0);
+        gl.glVertexAttribDivisor(colorAttributeHandle, 0);
+        gl.glDisableVertexAttribArray(instanceHandle);
+        gl.glDisableVertexAttribArray(colorAttributeHandle);
+        instances.unbind();
+    }
+
+    /**
+     * Fija los atributos de una instancia como constantes (sin instanciado)
+     */
+    public void setInstance(CycloidInstance instance) {
+        gl.glVertexAttrib4f(instanceHandle,
+                (float) instance.radius, (float) instance.theta(), (float) instance.phase, 1f);
+        gl.glVertexAttrib4f(colorAttributeHandle,
+                instance.red, instance.green, instance.blue, instance.alpha);
+    }
+}
@@ -0,0 +1,121 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * CycloidKernel - Geometría analítica del cicloide de radio a
+ *
+ * Posición x(θ) = a(θ − sin θ), y(θ) = a(1 − cos θ), que coincide con el punto
+ * trazador de una rueda con centro (aθ, a) girada −θ. Incluye velocidad,
+ * longitud de arco y área bajo la curva. La evaluación por lotes recibe los θ
+ * no uniformes del teselado adaptativo, así que calcula sin/cos por punto.
+ * Es el caso d = a de TrochoidCurve y el único que el modo GPU sabe evaluar.
+ */
+public final class CycloidKernel extends RollingCurve {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    public CycloidKernel(double radius) {
+        super(radius);
+    }
+
+    @Override
+    public double x(double theta) {
+        return radius * (theta - Math.sin(theta));
+    }
+
+    @Override
+    public double y(double theta) {
+        return radius * (1 - Math.cos(theta));
+    }
+
+    /**
+     * Centro de la rueda que genera el punto θ
+     */
+    @Override
+    public double wheelCenterX(double theta) {
+        return radius * theta;
+    }
+
+    @Override
+    public double wheelCenterY(double theta) {
+        return radius;
+    }
+
+    @Override
+    public double wheelRotation(double theta) {
+        return -theta;
+    }
+
+    @Override
+    public double period() {
+        return TWO_PI;
+    }
+
+    @Override
+    public double archShift() {
+        return TWO_PI * radius;
+    }
+
+    @Override
+    public double viewCenterX() {
+        return Math.PI * radius;
+    }
+
+    @Override
+    public double viewCenterY() {
+        return radius;
+    }
+
+    @Override
+    public double extent() {
+        return TWO_PI * radius;
+    }
+
+    /**
+     * κ·|r'|² = a·|sin(θ/2)|: más ajustado que |r''| = a y válido también en las
+     * cúspides, donde la curva avanza despacio (ver AdaptiveTessellator)
+     */
+    @Override
+    protected double bend(double theta) {
+        return radius * Math.abs(Math.sin(theta / 2));
+    }
+
+    /**
+     * dx/dθ = a(1 − cos θ)
+     */
+    public double velocityX(double theta) {
+        return radius * (1 - Math.cos(theta));
+    }
+
+    /**
+     * dy/dθ = a sin θ
+     */
+    public double velocityY(double theta) {
+        return radius * Math.sin(theta);
+    }
+
+    /**
+     * Longitud de arco desde 0: 4a(1 − cos(θ/2)) por arco, 8a cada arco completo
+     */
+    public double arcLength(double theta) {
+        double arches = Math.floor(theta / TWO_PI);
+        double rest = theta - arches * TWO_PI;
+        return 8 * radius * arches + 4 * radius * (1 - Math.cos(rest / 2));
+    }
+
+    /**
+     * Área bajo la curva desde 0: a²(3θ/2 − 2 sin θ + sin 2θ / 4); 3πa² por arco
+     */
+    public double area(double theta) {
+        return radius * radius * (1.5 * theta - 2 * Math.sin(theta) + Math.sin(2 * theta) / 4);
+    }
+
+    @Override
+    public void evaluate(double[] thetas, int from, int count, float[] out, int offset) {
+        int index = offset;
+        for (int i = from; i < from + count; i++) {
+            double theta = thetas[i];
+            out[index++] = (float) (radius * (theta - Math.sin(theta)));
+            out[index++] = (float) (radius * (1 - Math.cos(theta)));
+        }
+    }
+}
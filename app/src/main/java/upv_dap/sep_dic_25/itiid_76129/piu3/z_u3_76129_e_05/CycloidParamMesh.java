@@ -0,0 +1,71 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * CycloidParamMesh - Malla de parámetros para evaluar el cicloide en la GPU
+ *
+ * Cada muestra t ∈ [0, 1] aporta dos vértices (t, 1) y (t, 0): el primero está
+ * sobre la curva y el segundo en el eje X. En orden forman la tira de triángulos
+ * del área (como AreaStrip); tomando uno de cada dos con stride doble, la línea
+ * del trazo. El shader calcula θ = t·θmax y la posición con el radio a, así que
+ * la malla no depende del radio ni del progreso y se sube una sola vez.
+ */
+public final class CycloidParamMesh {
+
+    // Componentes por vértice: (t, flag de curva)
+    public static final int COMPONENTS = 2;
+    public static final int BYTES_PER_VERTEX = COMPONENTS * 4;
+    public static final int VERTICES_PER_SAMPLE = 2;
+
+    // Lado de la curva del vértice: 1 = sobre la curva, 0 = en el eje
+    private static final float TOP = 1f;
+    private static final float BOTTOM = 0f;
+
+    private final int samples;
+    private final float[] vertices;
+
+    /**
+     * @param samples Muestras de t, incluidos los extremos 0 y 1 (mínimo 2)
+     */
+    public CycloidParamMesh(int samples) {
+        this.samples = samples;
+        this.vertices = new float[samples * VERTICES_PER_SAMPLE * COMPONENTS];
+
+        int index = 0;
+        for (int i = 0; i < samples; i++) {
+            float t = i / (float) (samples - 1);
+            vertices[index++] = t;
+            vertices[index++] = TOP;
+            vertices[index++] = t;
+            vertices[index++] = BOTTOM;
+        }
+    }
+
+    public float[] vertices() {
+        return vertices;
+    }
+
+    public int samples() {
+        return samples;
+    }
+
+    /**
+     * Vértices de la tira del área (todos)
+     */
+    public int areaVertexCount() {
+        return samples * VERTICES_PER_SAMPLE;
+    }
+
+    /**
+     * Vértices del trazo (solo los de la curva)
+     */
+    public int trailVertexCount() {
+        return samples;
+    }
+
+    /**
+     * Stride en bytes para recorrer solo los vértices de la curva
+     */
+    public int trailStrideBytes() {
+        return BYTES_PER_VERTEX * VERTICES_PER_SAMPLE;
+    }
+}
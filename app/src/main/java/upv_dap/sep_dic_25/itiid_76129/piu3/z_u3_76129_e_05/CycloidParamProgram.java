@@ -0,0 +1,39 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * CycloidParamProgram - Programa que evalúa el cicloide en el vertex shader
+ *
+ * Recibe los vértices de CycloidParamMesh en aParam = (t, flag) y calcula
+ * x = a(θ − sin θ), y = a(1 − cos θ)·flag con θ = t·θmax.
+ */
+public class CycloidParamProgram extends ShaderProgram {
+
+    public static final String VERTEX_SHADER =
+            "uniform mat4 uMVPMatrix;" +
+                    "uniform float uRadius;" +
+                    "uniform float uThetaMax;" +
+                    "attribute vec2 aParam;" +
+                    "void main() {" +
+                    "  float theta = aParam.x * uThetaMax;" +
+                    "  float x = uRadius * (theta - sin(theta));" +
+                    "  float y = uRadius * (1.0 - cos(theta)) * aParam.y;" +
+                    "  gl_Position = uMVPMatrix * vec4(x, y, 0.0, 1.0);" +
+                    "}";
+
+    private final int radiusHandle;
+    private final int thetaMaxHandle;
+
+    public CycloidParamProgram(GLApi gl, int programId) {
+        super(gl, programId, "aParam");
+        this.radiusHandle = gl.glGetUniformLocation(programId, "uRadius");
+        this.thetaMaxHandle = gl.glGetUniformLocation(programId, "uThetaMax");
+    }
+
+    /**
+     * Radio y ángulo recorrido: lo único que cambia por frame
+     */
+    public void setCurve(float radius, float thetaMax) {
+        gl.glUniform1f(radiusHandle, radius);
+        gl.glUniform1f(thetaMaxHandle, thetaMax);
+    }
+}
@@ -0,0 +1,150 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CycloidScene - Varios cicloides superpuestos para compararlos
+ *
+ * Todos se dibujan sobre la misma malla de parámetros (CycloidParamMesh); cada
+ * instancia aporta solo sus FLOATS_PER_INSTANCE valores: (a, θ, φ) y su color
+ * RGBA. La UI construye la escena y la entrega al renderer, que a partir de
+ * ahí es el único que la modifica (hilo GL).
+ */
+public class CycloidScene {
+
+    // (a, θmax, φ) + (r, g, b, a)
+    public static final int FLOATS_PER_INSTANCE = 7;
+
+    private final List<CycloidInstance> instances = new ArrayList<>();
+
+    // Los datos por instancia cambiaron desde el último write()
+    private boolean dirty = true;
+
+    public void add(CycloidInstance instance) {
+        instances.add(instance);
+        dirty = true;
+    }
+
+    public void clear() {
+        instances.clear();
+        dirty = true;
+    }
+
+    public int size() {
+        return instances.size();
+    }
+
+    public CycloidInstance get(int index) {
+        return instances.get(index);
+    }
+
+    /**
+     * Reinicia el progreso de todas las instancias
+     */
+    public void restart() {
+        for (int i = 0; i < instances.size(); i++) {
+            instances.get(i).restart();
+        }
+        dirty = true;
+    }
+
+    /**
+     * Avanza todas las instancias que no han terminado
+     *
+     * @return true si alguna sigue animándose
+     */
+    public boolean advance(double deltaTheta) {
+        boolean animating = false;
+        for (int i = 0; i < instances.size(); i++) {
+            CycloidInstance instance = instances.get(i);
+            if (instance.advance(deltaTheta)) {
+                dirty = true;
+            }
+            animating |= !instance.isComplete();
+        }
+        return animating;
+    }
+
+    public boolean isAnimating() {
+        for (int i = 0; i < instances.size(); i++) {
+            if (!instances.get(i).isComplete()) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Indica si hay que volver a subir los datos por instancia
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Fuerza la subida en el próximo frame (p. ej. tras perder el contexto)
+     */
+    public void markDirty() {
+        dirty = true;
+    }
+
+    /**
+     * Escribe los datos de todas las instancias desde la posición 0 (sin reservar memoria)
+     *
+     * @param out Al menos size() × FLOATS_PER_INSTANCE floats
+     */
+    public void write(FloatBuffer out) {
+        int index = 0;
+        for (int i = 0; i < instances.size(); i++) {
+            CycloidInstance instance = instances.get(i);
+            out.put(index++, (float) instance.radius);
+            out.put(index++, (float) instance.theta());
+            out.put(index++, (float) instance.phase);
+            out.put(index++, instance.red);
+            out.put(index++, instance.green);
+            out.put(index++, instance.blue);
+            out.put(index++, instance.alpha);
+        }
+        out.position(0);
+        out.limit(index);
+        dirty = false;
+    }
+
+    /**
+     * Escena de comparación: radios repartidos entre minRadius y maxRadius,
+     * fases repartidas por el ángulo áureo y un tono distinto por instancia
+     */
+    public static CycloidScene comparison(int count, double minRadius, double maxRadius) {
+        CycloidScene scene = new CycloidScene();
+        double goldenAngle = Math.PI * (3 - Math.sqrt(5));
+
+        for (int i = 0; i < count; i++) {
+            double t = count > 1 ? i / (double) (count - 1) : 0.0;
+            double radius = minRadius + (maxRadius - minRadius) * t;
+            double phase = (i * goldenAngle) % (2 * Math.PI);
+
+            // Tono en el círculo cromático (saturación y valor fijos)
+            float[] rgb = hueToRgb((float) (i / (double) Math.max(count, 1)));
+            scene.add(new CycloidInstance(radius, phase, rgb[0], rgb[1], rgb[2], 0.8f));
+        }
+        return scene;
+    }
+
+    private static float[] hueToRgb(float hue) {
+        float h = hue * 6f;
+        float x = 1f - Math.abs(h % 2f - 1f);
+        float[] rgb;
+        if (h < 1) rgb = new float[]{1f, x, 0f};
+        else if (h < 2) rgb = new float[]{x, 1f, 0f};
+        else if (h < 3) rgb = new float[]{0f, 1f, x};
+        else if (h < 4) rgb = new float[]{0f, x, 1f};
+        else if (h < 5) rgb = new float[]{x, 0f, 1f};
+        else rgb = new float[]{1f, 0f, x};
+
+        // Un poco más oscuro para que contraste con el fondo claro
+        for (int i = 0; i < 3; i++) {
+            rgb[i] *= 0.85f;
+        }
+        return rgb;
+    }
+}
@@ -1,12 +1,16 @@
 package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Path;
+import android.graphics.PorterDuff;
+import android.graphics.PorterDuffXfermode;
 import android.os.Handler;
 import android.util.AttributeSet;
+import android.view.Display;
 import android.view.View;
 
 /**
@@ -22,6 +26,7 @@ public class CycloidView extends View {
 
     // Parámetros del cicloide
     private double radius = 50.0;
+    private CycloidKernel kernel = new CycloidKernel(radius);
     private static final double TWO_PI = 2 * Math.PI;
 
     // Estado de la animación
@@ -33,6 +38,10 @@ public class CycloidView extends View {
     private static final double THETA_INCREMENT = 0.03; // Velocidad de animación
     private static final int ANIMATION_DELAY = 16; // ~60 FPS
 
+    // Radios de la rueda (direcciones precalculadas)
+    private static final int SPOKE_COUNT = 12;
+    private static final UnitCircleTable SPOKES = UnitCircleTable.of(SPOKE_COUNT);
+
     // Path dinámico para el trazo progresivo
     private Path progressiveCycloidPath;
 
@@ -46,28 +55,122 @@ public class CycloidView extends View {
     private Paint areaPaint;         // Área bajo la curva
     private Paint axisPaint;         // Ejes de coordenadas
     private Paint pointPaint;        // Punto generador
+    private Paint spokesPaint;       // Radios del círculo
+    private Paint haloPaint;         // Halo del punto generador
+    private Paint tracerPaint;       // Punto generador
+    private Paint borderPaint;       // Borde del punto generador
+
+    // Resultados de toScreen() reutilizados en cada frame
+    private final float[] screenPoint = new float[2];
+    private final float[] screenCenter = new float[2];
 
     // Parámetros de transformación de coordenadas
     private float offsetX;
     private float offsetY;
     private float scale;
 
-    // Precalculado del cicloide completo
-    private Path cycloidPath;
-    private Path trailPath; // Path para la estela que ya pasó
+    // Caché raster de la estela y el área: cada paso dibuja solo su segmento
+    // nuevo y onDraw copia el bitmap, con coste constante en θ
+    private final TrailSurface trailSurface;
+    private final Path segmentPath = new Path();
+    private final float[] lastTrailPoint = new float[2];
+
+    // Ritmo de frames del hilo de la UI, relacionado con el avance del barrido
+    private final FramePacingStats framePacing = new FramePacingStats();
+    private final FramePacingMonitor.SweepProgress sweepProgress =
+            new FramePacingMonitor.SweepProgress() {
+                @Override
+                public double sweepProgress() {
+                    return currentTheta / TWO_PI;
+                }
+            };
+    private final FramePacingMonitor pacingMonitor;
+
+    /**
+     * TrailSurface - Superficie fuera de pantalla donde se rasteriza la estela
+     */
+    public interface TrailSurface {
+        /**
+         * Prepara la superficie para una vista de width × height (0 = ninguna)
+         */
+        void resize(int width, int height);
+
+        /**
+         * Canvas que dibuja en la superficie, o null si no hay superficie
+         */
+        Canvas canvas();
+
+        /**
+         * Contenido que onDraw copia a la vista
+         */
+        Bitmap bitmap();
+
+        void clear();
+    }
+
+    /**
+     * Superficie en un Bitmap ARGB_8888 del tamaño de la vista
+     */
+    static final class BitmapTrailSurface implements TrailSurface {
+        private final Canvas canvas = new Canvas();
+        private Bitmap bitmap;
+
+        @Override
+        public void resize(int width, int height) {
+            if (bitmap != null) {
+                bitmap.recycle();
+            }
+            bitmap = width > 0 && height > 0
+                    ? Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888) : null;
+            canvas.setBitmap(bitmap);
+        }
+
+        @Override
+        public Canvas canvas() {
+            return bitmap != null ? canvas : null;
+        }
+
+        @Override
+        public Bitmap bitmap() {
+            return bitmap;
+        }
+
+        @Override
+        public void clear() {
+            if (bitmap != null) {
+                bitmap.eraseColor(Color.TRANSPARENT);
+            }
+        }
+    }
 
     public CycloidView(Context context) {
+        this(context, new BitmapTrailSurface(), FramePacingMonitor.CHOREOGRAPHER);
+    }
+
+    /**
+     * Las pruebas de JVM pasan una superficie y un origen de vsync falsos
+     *
+     * @param trailSurface Superficie de la estela
+     * @param frames       Origen de las marcas de vsync del monitor de ritmo
+     */
+    CycloidView(Context context, TrailSurface trailSurface, FramePacingMonitor.FrameSource frames) {
         super(context);
+        this.trailSurface = trailSurface;
+        this.pacingMonitor = new FramePacingMonitor(framePacing, sweepProgress, frames);
         init();
     }
 
     public CycloidView(Context context, AttributeSet attrs) {
         super(context, attrs);
+        this.trailSurface = new BitmapTrailSurface();
+        this.pacingMonitor = new FramePacingMonitor(framePacing, sweepProgress);
         init();
     }
 
     public CycloidView(Context context, AttributeSet attrs, int defStyleAttr) {
         super(context, attrs, defStyleAttr);
+        this.trailSurface = new BitmapTrailSurface();
+        this.pacingMonitor = new FramePacingMonitor(framePacing, sweepProgress);
         init();
     }
 
@@ -94,10 +197,12 @@ public class CycloidView extends View {
         circleOutlinePaint.setStrokeWidth(3f);
         circleOutlinePaint.setStyle(Paint.Style.STROKE);
 
-        // Paint para el área bajo la curva
-        areaPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        // Paint para el área bajo la curva: sin antialias para que los trapezoides
+        // contiguos no dejen costuras, y por debajo de la estela ya dibujada
+        areaPaint = new Paint();
         areaPaint.setColor(Color.argb(80, 100, 200, 100));
         areaPaint.setStyle(Paint.Style.FILL);
+        areaPaint.setXfermode(new PorterDuffXfermode(PorterDuff.Mode.DST_OVER));
 
         // Paint para los ejes
         axisPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
@@ -109,6 +214,25 @@ public class CycloidView extends View {
         pointPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
         pointPaint.setColor(Color.RED);
         pointPaint.setStyle(Paint.Style.FILL);
+
+        // Paint para los radios
+        spokesPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        spokesPaint.setColor(Color.argb(120, 150, 150, 150));
+        spokesPaint.setStrokeWidth(2f);
+
+        // Paints del punto generador: halo, relleno y borde blanco
+        haloPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        haloPaint.setColor(Color.argb(60, 0, 120, 215));
+        haloPaint.setStyle(Paint.Style.FILL);
+
+        tracerPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        tracerPaint.setColor(Color.rgb(0, 120, 215));
+        tracerPaint.setStyle(Paint.Style.FILL);
+
+        borderPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
+        borderPaint.setColor(Color.WHITE);
+        borderPaint.setStyle(Paint.Style.STROKE);
+        borderPaint.setStrokeWidth(2f);
     }
 
     /**
@@ -118,6 +242,7 @@ public class CycloidView extends View {
      */
     public void startAnimation(double newRadius) {
         this.radius = newRadius;
+        this.kernel = new CycloidKernel(newRadius);
         this.currentTheta = 0.0;
         this.isAnimating = true;
         this.isPaused = false;
@@ -125,14 +250,12 @@ public class CycloidView extends View {
         // Calcular parámetros de transformación
         calculateTransformParams();
 
-        // Precalcular el path del cicloide completo
-        precalculateCycloidPath();
-
-        // Inicializar el path de la estela
-        trailPath = new Path();
+        // Vaciar la estela del barrido anterior (escala y radio nuevos)
+        clearTrailCache();
 
         // Iniciar el loop de animación
         animationHandler.post(animationRunnable);
+        pacingMonitor.start(refreshRate());
     }
 
     /**
@@ -141,6 +264,7 @@ public class CycloidView extends View {
     public void pauseAnimation() {
         isPaused = true;
         animationHandler.removeCallbacks(animationRunnable);
+        pacingMonitor.stop();
     }
 
     /**
@@ -150,9 +274,28 @@ public class CycloidView extends View {
         if (isAnimating && isPaused) {
             isPaused = false;
             animationHandler.post(animationRunnable);
+            pacingMonitor.start(refreshRate());
         }
     }
 
+    /**
+     * Frames fuera de plazo durante la animación
+     */
+    public FramePacingStats getFramePacing() {
+        return framePacing;
+    }
+
+    private float refreshRate() {
+        Display display = getDisplay();
+        return display != null ? display.getRefreshRate() : FramePacingStats.DEFAULT_REFRESH_HZ;
+    }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        pacingMonitor.stop();
+    }
+
     /**
      * Runnable para el loop de animación
      */
@@ -160,17 +303,7 @@ public class CycloidView extends View {
         @Override
         public void run() {
             if (isAnimating && !isPaused) {
-                // Incrementar theta
-                currentTheta += THETA_INCREMENT;
-
-                // Reiniciar ciclo si se completa
-                if (currentTheta >= TWO_PI) {
-                    currentTheta = 0.0;
-                    trailPath.reset(); // Limpiar estela para reiniciar
-                }
-
-                // Actualizar el path progresivo
-                updateProgressivePath();
+                stepAnimation();
 
                 // Redibujar
                 invalidate();
@@ -181,6 +314,22 @@ public class CycloidView extends View {
         }
     };
 
+    /**
+     * Avanza θ un paso y extiende la estela
+     */
+    void stepAnimation() {
+        // Incrementar theta
+        currentTheta += THETA_INCREMENT;
+
+        // Reiniciar ciclo si se completa
+        if (currentTheta >= TWO_PI) {
+            currentTheta = 0.0;
+        }
+
+        // Añadir el segmento nuevo a la caché
+        appendTrailPoint(currentTheta);
+    }
+
     /**
      * Calcula los parámetros de transformación para mapear coordenadas
      * matemáticas a coordenadas de pantalla
@@ -205,85 +354,82 @@ public class CycloidView extends View {
     }
 
     /**
-     * Precalcula el path completo del cicloide para optimización
-     */
-    private void precalculateCycloidPath() {
-        cycloidPath = new Path();
-
-        // Calcular primer punto
-        double x0 = calculateX(0);
-        double y0 = calculateY(0);
-        float[] screen0 = toScreen(x0, y0);
-        cycloidPath.moveTo(screen0[0], screen0[1]);
-
-        // Calcular resto de puntos
-        int numPoints = 500; // Alta resolución
-        for (int i = 1; i <= numPoints; i++) {
-            double t = (i / (double) numPoints) * TWO_PI;
-            double x = calculateX(t);
-            double y = calculateY(t);
-            float[] screen = toScreen(x, y);
-            cycloidPath.lineTo(screen[0], screen[1]);
-        }
-    }
-
-    /**
-     * Actualiza el path progresivo del cicloide según el theta actual
+     * Añade a la caché la estela y el trapezoide de área hasta el punto θ
      * El punto que traza está en el borde del círculo
      */
-    private void updateProgressivePath() {
-        // Calcular la posición del punto generador en el borde del círculo
-        double centerX = currentTheta * radius; // Centro del círculo se mueve horizontalmente
-        double centerY = radius; // Centro siempre a altura 'a'
-
-        // El punto generador está en el borde, inicialmente en la parte inferior
-        // Cuando el círculo rueda, el punto rota: ángulo de rotación = -theta (sentido horario)
-        double rotationAngle = -currentTheta;
-
-        // Posición del punto generador (que traza el cicloide)
-        double tracePointX = centerX + radius * Math.sin(rotationAngle);
-        double tracePointY = centerY - radius * Math.cos(rotationAngle);
-
-        // Transformar a coordenadas de pantalla
-        float[] screen = toScreen(tracePointX, tracePointY);
-
-        // Si es el primer punto, inicializar el path
-        if (currentTheta <= THETA_INCREMENT) {
-            trailPath.reset();
-            trailPath.moveTo(screen[0], screen[1]);
+    private void appendTrailPoint(double theta) {
+        // Posición del punto generador (en el borde del círculo, girado −θ)
+        toScreen(kernel.x(theta), kernel.y(theta), screenPoint);
+
+        // El primer punto del ciclo reinicia la estela
+        if (theta <= THETA_INCREMENT) {
+            clearTrailCache();
         } else {
-            // Añadir línea al punto actual
-            trailPath.lineTo(screen[0], screen[1]);
+            cacheSegment(lastTrailPoint[0], lastTrailPoint[1], screenPoint[0], screenPoint[1]);
         }
+        lastTrailPoint[0] = screenPoint[0];
+        lastTrailPoint[1] = screenPoint[1];
     }
 
     /**
-     * Calcula la coordenada x del cicloide
-     * x(θ) = a(θ - sin(θ))
+     * Rasteriza un segmento: trapezoide de área contra el eje y tramo de estela
      */
-    private double calculateX(double theta) {
-        return radius * (theta - Math.sin(theta));
+    private void cacheSegment(float x0, float y0, float x1, float y1) {
+        Canvas cacheCanvas = trailSurface.canvas();
+        if (cacheCanvas == null) return;
+
+        segmentPath.rewind();
+        segmentPath.moveTo(x0, offsetY);
+        segmentPath.lineTo(x0, y0);
+        segmentPath.lineTo(x1, y1);
+        segmentPath.lineTo(x1, offsetY);
+        segmentPath.close();
+        cacheCanvas.drawPath(segmentPath, areaPaint);
+
+        cacheCanvas.drawLine(x0, y0, x1, y1, cycloidPaint);
+    }
+
+    private void clearTrailCache() {
+        trailSurface.clear();
     }
 
     /**
-     * Calcula la coordenada y del cicloide
-     * y(θ) = a(1 - cos(θ))
+     * Vuelve a rasterizar la estela hasta el θ actual (tras cambiar la escala)
      */
-    private double calculateY(double theta) {
-        return radius * (1 - Math.cos(theta));
+    private void rebuildTrailCache() {
+        clearTrailCache();
+        if (!isAnimating) return;
+
+        // Mismos valores de θ que acumula stepAnimation()
+        double target = currentTheta;
+        for (double theta = THETA_INCREMENT; theta <= target; theta += THETA_INCREMENT) {
+            appendTrailPoint(theta);
+        }
+    }
+
+    @Override
+    protected void onSizeChanged(int w, int h, int oldw, int oldh) {
+        super.onSizeChanged(w, h, oldw, oldh);
+
+        trailSurface.resize(w, h);
+
+        // La transformación depende del tamaño: recalcular y rehacer la caché
+        if (isAnimating) {
+            calculateTransformParams();
+        }
+        rebuildTrailCache();
     }
 
     /**
      * Transforma coordenadas matemáticas a coordenadas de pantalla
      *
-     * @param x Coordenada x matemática
-     * @param y Coordenada y matemática
-     * @return Array [screenX, screenY]
+     * @param x   Coordenada x matemática
+     * @param y   Coordenada y matemática
+     * @param out Recibe [screenX, screenY]
      */
-    private float[] toScreen(double x, double y) {
-        float screenX = offsetX + (float) x * scale;
-        float screenY = offsetY - (float) y * scale; // Invertir Y
-        return new float[]{screenX, screenY};
+    private void toScreen(double x, double y, float[] out) {
+        out[0] = offsetX + (float) x * scale;
+        out[1] = offsetY - (float) y * scale; // Invertir Y
     }
 
     @Override
@@ -301,12 +447,9 @@ public class CycloidView extends View {
         canvas.drawLine(offsetX, offsetY, offsetX + (float)(TWO_PI * radius * scale),
                 offsetY, axisPaint);
 
-        // Dibujar el área bajo la curva (hasta el punto actual)
-        drawAreaUnderCurve(canvas);
-
-        // Dibujar SOLO la estela progresiva del cicloide (no el cicloide completo)
-        if (trailPath != null && !trailPath.isEmpty()) {
-            canvas.drawPath(trailPath, cycloidPaint);
+        // Área y estela progresiva ya rasterizadas (no el cicloide completo)
+        if (trailSurface.canvas() != null) {
+            canvas.drawBitmap(trailSurface.bitmap(), 0f, 0f, null);
         }
 
         // Dibujar el círculo rodante
@@ -316,56 +459,15 @@ public class CycloidView extends View {
         drawGeneratingPoint(canvas);
     }
 
-    /**
-     * Dibuja el área bajo la curva usando el método de trapezoides
-     */
-    private void drawAreaUnderCurve(Canvas canvas) {
-        int numSegments = 100;
-        double deltaTheta = currentTheta / numSegments;
-
-        for (int i = 0; i < numSegments; i++) {
-            double t1 = i * deltaTheta;
-            double t2 = (i + 1) * deltaTheta;
-
-            // Calcular posiciones del punto trazador en ambos momentos
-            // Centro del círculo
-            double center1X = t1 * radius;
-            double center2X = t2 * radius;
-            double centerY = radius;
-
-            // Puntos trazadores
-            double x1 = center1X + radius * Math.sin(-t1);
-            double y1 = centerY - radius * Math.cos(-t1);
-            double x2 = center2X + radius * Math.sin(-t2);
-            double y2 = centerY - radius * Math.cos(-t2);
-
-            // Transformar a coordenadas de pantalla
-            float[] screen1 = toScreen(x1, y1);
-            float[] screen2 = toScreen(x2, y2);
-            float[] base1 = toScreen(x1, 0);
-            float[] base2 = toScreen(x2, 0);
-
-            // Dibujar trapezoide (área infinitesimal)
-            Path trapezoid = new Path();
-            trapezoid.moveTo(base1[0], base1[1]);
-            trapezoid.lineTo(screen1[0], screen1[1]);
-            trapezoid.lineTo(screen2[0], screen2[1]);
-            trapezoid.lineTo(base2[0], base2[1]);
-            trapezoid.close();
-
-            canvas.drawPath(trapezoid, areaPaint);
-        }
-    }
-
     /**
      * Dibuja el círculo rodante en la posición actual con rotación visual
      */
     private void drawRollingCircle(Canvas canvas) {
         // Centro del círculo se mueve horizontalmente
-        double centerX = currentTheta * radius;
-        double centerY = radius; // El centro está siempre a altura 'a'
+        double centerX = kernel.wheelCenterX(currentTheta);
+        double centerY = kernel.wheelCenterY(currentTheta); // El centro está siempre a altura 'a'
 
-        float[] screenCenter = toScreen(centerX, centerY);
+        toScreen(centerX, centerY, screenCenter);
         float screenRadius = (float) radius * scale;
 
         // Dibujar círculo relleno
@@ -374,19 +476,16 @@ public class CycloidView extends View {
         // Dibujar contorno
         canvas.drawCircle(screenCenter[0], screenCenter[1], screenRadius, circleOutlinePaint);
 
-        // Dibujar radios para visualizar la rotación
-        Paint spokesPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        spokesPaint.setColor(Color.argb(120, 150, 150, 150));
-        spokesPaint.setStrokeWidth(2f);
-
-        // Dibujar 12 radios equidistantes
-        for (int i = 0; i < 12; i++) {
-            double spokeAngle = -currentTheta + (i * Math.PI / 6);
-            double spokeX = centerX + radius * Math.sin(spokeAngle);
-            double spokeY = centerY - radius * Math.cos(spokeAngle);
-            float[] spokeScreen = toScreen(spokeX, spokeY);
+        // Dibujar 12 radios equidistantes para visualizar la rotación:
+        // ángulo −θ + 2πi/12 por suma de ángulos sobre la tabla (2 llamadas trig por frame)
+        double cosTheta = Math.cos(-currentTheta);
+        double sinTheta = Math.sin(-currentTheta);
+        for (int i = 0; i < SPOKE_COUNT; i++) {
+            double spokeX = centerX + radius * SPOKES.rotateSin(i, cosTheta, sinTheta);
+            double spokeY = centerY - radius * SPOKES.rotateCos(i, cosTheta, sinTheta);
+            toScreen(spokeX, spokeY, screenPoint);
             canvas.drawLine(screenCenter[0], screenCenter[1],
-                    spokeScreen[0], spokeScreen[1], spokesPaint);
+                    screenPoint[0], screenPoint[1], spokesPaint);
         }
     }
 
@@ -395,35 +494,20 @@ public class CycloidView extends View {
      * El punto está en el borde del círculo y traza el cicloide
      */
     private void drawGeneratingPoint(Canvas canvas) {
-        // Centro del círculo
-        double centerX = currentTheta * radius;
-        double centerY = radius;
-
         // El punto generador está en el borde, rotado según theta
-        double rotationAngle = -currentTheta;
-        double pointX = centerX + radius * Math.sin(rotationAngle);
-        double pointY = centerY - radius * Math.cos(rotationAngle);
+        double pointX = kernel.x(currentTheta);
+        double pointY = kernel.y(currentTheta);
 
         // Transformar a pantalla
-        float[] screenPoint = toScreen(pointX, pointY);
+        toScreen(pointX, pointY, screenPoint);
 
         // Dibujar un halo alrededor del punto
-        Paint haloPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        haloPaint.setColor(Color.argb(60, 0, 120, 215));
-        haloPaint.setStyle(Paint.Style.FILL);
         canvas.drawCircle(screenPoint[0], screenPoint[1], 18f, haloPaint);
 
         // Dibujar el punto
-        Paint tracerPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        tracerPaint.setColor(Color.rgb(0, 120, 215));
-        tracerPaint.setStyle(Paint.Style.FILL);
         canvas.drawCircle(screenPoint[0], screenPoint[1], 8f, tracerPaint);
 
         // Borde blanco para destacar
-        Paint borderPaint = new Paint(Paint.ANTI_ALIAS_FLAG);
-        borderPaint.setColor(Color.WHITE);
-        borderPaint.setStyle(Paint.Style.STROKE);
-        borderPaint.setStrokeWidth(2f);
         canvas.drawCircle(screenPoint[0], screenPoint[1], 8f, borderPaint);
     }
 }
\ No newline at end of file
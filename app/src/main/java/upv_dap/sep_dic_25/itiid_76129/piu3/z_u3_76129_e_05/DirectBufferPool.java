@@ -0,0 +1,250 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * DirectBufferPool - FloatBuffers directos reutilizables por clases de tamaño
+ *
+ * La memoria nativa de un buffer directo solo se libera cuando el GC recoge el
+ * objeto y el Cleaner corre, lo que en Android puede tardar mucho. El pool
+ * reserva buffers de 2^k floats (orden nativo), los presta con acquire() y los
+ * recupera con release() para el siguiente que pida esa clase. Las Arena
+ * prestan buffers durante un frame y los devuelven todos juntos con reset().
+ * Pertenece al hilo GL: no es seguro usarlo desde varios hilos, salvo las
+ * métricas, que se publican en campos volátiles.
+ */
+public class DirectBufferPool implements GrowableVertexBuffer.Allocator {
+
+    // Clase más pequeña: 2^6 = 64 floats
+    private static final int MIN_CLASS = 6;
+    private static final int CLASSES = 31 - MIN_CLASS;
+
+    // Ventana de la tasa de reservas
+    private static final long RATE_WINDOW_NANOS = 1_000_000_000L;
+
+    private final GrowableVertexBuffer.Allocator source;
+    private final AnimationClock.TimeSource timeSource;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final ArrayDeque<FloatBuffer>[] free = new ArrayDeque[CLASSES];
+    private final List<Arena> arenas = new ArrayList<>();
+
+    // Métricas en bytes (escribe el hilo GL)
+    private volatile long allocatedBytes = 0L;
+    private volatile long inUseBytes = 0L;
+    private volatile long highWaterBytes = 0L;
+    private volatile long pooledBytes = 0L;
+    private volatile double allocatedBytesPerSecond = 0.0;
+    private long windowStartNanos = -1L;
+    private long windowStartBytes = 0L;
+
+    public DirectBufferPool(AnimationClock.TimeSource timeSource) {
+        this(GrowableVertexBuffer.DIRECT, timeSource);
+    }
+
+    /**
+     * @param source Reserva real de cada buffer nuevo (DIRECT en producción)
+     */
+    public DirectBufferPool(GrowableVertexBuffer.Allocator source, AnimationClock.TimeSource timeSource) {
+        this.source = source;
+        this.timeSource = timeSource;
+        for (int i = 0; i < CLASSES; i++) {
+            free[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Floats de la clase que atiende una petición de floatCount
+     */
+    public static int classCapacity(int floatCount) {
+        return 1 << (MIN_CLASS + sizeClass(floatCount));
+    }
+
+    private static int sizeClass(int floatCount) {
+        if (floatCount <= 1 << MIN_CLASS) return 0;
+        int bits = 32 - Integer.numberOfLeadingZeros(floatCount - 1);
+        if (bits - MIN_CLASS >= CLASSES) {
+            throw new IllegalArgumentException("Buffer demasiado grande: " + floatCount + " floats");
+        }
+        return bits - MIN_CLASS;
+    }
+
+    /**
+     * Presta un buffer con al menos floatCount floats, en posición 0 y sin límite
+     *
+     * Solo reserva memoria nativa si la clase no tiene buffers libres.
+     */
+    public FloatBuffer acquire(int floatCount) {
+        int sizeClass = sizeClass(floatCount);
+        int capacity = 1 << (MIN_CLASS + sizeClass);
+        long bytes = capacity * 4L;
+
+        FloatBuffer buffer = free[sizeClass].pollFirst();
+        if (buffer == null) {
+            buffer = source.allocate(capacity);
+            allocatedBytes += bytes;
+        } else {
+            pooledBytes -= bytes;
+        }
+
+        inUseBytes += bytes;
+        if (inUseBytes > highWaterBytes) {
+            highWaterBytes = inUseBytes;
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Devuelve un buffer obtenido con acquire(); no debe usarse después
+     */
+    public void release(FloatBuffer buffer) {
+        int capacity = buffer.capacity();
+        if (Integer.bitCount(capacity) != 1 || capacity < 1 << MIN_CLASS) {
+            throw new IllegalArgumentException("El buffer no pertenece al pool: " + capacity + " floats");
+        }
+
+        long bytes = capacity * 4L;
+        free[sizeClass(capacity)].addFirst(buffer);
+        inUseBytes -= bytes;
+        pooledBytes += bytes;
+    }
+
+    /**
+     * GrowableVertexBuffer: cada crecimiento toma un buffer del pool
+     */
+    @Override
+    public FloatBuffer allocate(int floatCapacity) {
+        return acquire(floatCapacity);
+    }
+
+    /**
+     * GrowableVertexBuffer: el buffer sustituido al crecer vuelve al pool
+     */
+    @Override
+    public void recycle(FloatBuffer buffer) {
+        release(buffer);
+    }
+
+    /**
+     * Arena nueva para datos temporales de un frame
+     */
+    public Arena newArena() {
+        Arena arena = new Arena();
+        arenas.add(arena);
+        return arena;
+    }
+
+    /**
+     * Inicio de frame: vacía las arenas y actualiza la tasa de reservas (hilo GL)
+     */
+    public void beginFrame() {
+        for (int i = 0; i < arenas.size(); i++) {
+            arenas.get(i).reset();
+        }
+
+        long now = timeSource.nanoTime();
+        if (windowStartNanos < 0) {
+            windowStartNanos = now;
+            windowStartBytes = allocatedBytes;
+            return;
+        }
+
+        long elapsed = now - windowStartNanos;
+        if (elapsed >= RATE_WINDOW_NANOS) {
+            allocatedBytesPerSecond = (allocatedBytes - windowStartBytes) * 1e9 / elapsed;
+            windowStartNanos = now;
+            windowStartBytes = allocatedBytes;
+        }
+    }
+
+    /**
+     * Bytes nativos reservados desde la creación (nunca baja)
+     */
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long inUseBytes() {
+        return inUseBytes;
+    }
+
+    /**
+     * Máximo de bytes prestados a la vez
+     */
+    public long highWaterBytes() {
+        return highWaterBytes;
+    }
+
+    /**
+     * Bytes libres retenidos para reutilizar
+     */
+    public long pooledBytes() {
+        return pooledBytes;
+    }
+
+    /**
+     * Bytes nativos nuevos por segundo en la última ventana completa (~1 s)
+     */
+    public double allocatedBytesPerSecond() {
+        return allocatedBytesPerSecond;
+    }
+
+    /**
+     * Métricas en una línea (cualquier hilo)
+     */
+    public String summary() {
+        return String.format(Locale.ROOT,
+                "buffers directos: %.1f KB en uso (máx. %.1f KB), %.1f KB libres, %.1f KB reservados, %.1f KB/s",
+                inUseBytes / 1024.0, highWaterBytes / 1024.0, pooledBytes / 1024.0,
+                allocatedBytes / 1024.0, allocatedBytesPerSecond / 1024.0);
+    }
+
+    /**
+     * Arena - Buffers temporales que se devuelven todos al reiniciar el frame
+     */
+    public final class Arena {
+
+        private final List<FloatBuffer> borrowed = new ArrayList<>();
+        private long frameBytes = 0L;
+        private long peakFrameBytes = 0L;
+
+        private Arena() {
+        }
+
+        /**
+         * Buffer válido hasta el próximo reset() de la arena
+         */
+        public FloatBuffer acquire(int floatCount) {
+            FloatBuffer buffer = DirectBufferPool.this.acquire(floatCount);
+            borrowed.add(buffer);
+            frameBytes += buffer.capacity() * 4L;
+            if (frameBytes > peakFrameBytes) {
+                peakFrameBytes = frameBytes;
+            }
+            return buffer;
+        }
+
+        /**
+         * Devuelve al pool todo lo prestado en este frame
+         */
+        public void reset() {
+            for (int i = 0; i < borrowed.size(); i++) {
+                DirectBufferPool.this.release(borrowed.get(i));
+            }
+            borrowed.clear();
+            frameBytes = 0L;
+        }
+
+        /**
+         * Máximo de bytes usados en un mismo frame
+         */
+        public long highWaterBytes() {
+            return peakFrameBytes;
+        }
+    }
+}
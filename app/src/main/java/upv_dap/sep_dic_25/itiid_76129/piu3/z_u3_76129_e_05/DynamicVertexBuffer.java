@@ -0,0 +1,49 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.opengl.GLES20;
+import java.nio.FloatBuffer;
+
+/**
+ * DynamicVertexBuffer - VBO cuyo contenido se reemplaza cuando cambian los datos
+ *
+ * Cada upload() llama a glBufferData con GL_DYNAMIC_DRAW, de modo que el driver
+ * puede dar memoria nueva en lugar de esperar a que la GPU suelte la anterior.
+ * Debe crearse en el hilo GL; el identificador muere con el contexto EGL.
+ */
+public class DynamicVertexBuffer {
+
+    private final GLApi gl;
+    private final int bufferId;
+
+    public DynamicVertexBuffer(GLApi gl) {
+        this.gl = gl;
+        int[] ids = new int[1];
+        gl.glGenBuffers(1, ids, 0);
+        bufferId = ids[0];
+    }
+
+    /**
+     * Reemplaza el contenido con los floats de data entre 0 y su límite
+     */
+    public void upload(FloatBuffer data) {
+        data.position(0);
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, bufferId);
+        gl.glBufferData(GLES20.GL_ARRAY_BUFFER, data.limit() * 4, data, GLES20.GL_DYNAMIC_DRAW);
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, 0);
+    }
+
+    public void bind() {
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, bufferId);
+    }
+
+    /**
+     * Apunta un atributo al VBO ya enlazado con bind()
+     */
+    public void attribute(int handle, int size, int strideBytes, int offsetBytes) {
+        gl.glVertexAttribPointer(handle, size, GLES20.GL_FLOAT, false, strideBytes, offsetBytes);
+    }
+
+    public void unbind() {
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, 0);
+    }
+}
@@ -0,0 +1,86 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.view.Choreographer;
+
+/**
+ * FramePacingMonitor - Alimenta FramePacingStats con los frames del Choreographer
+ *
+ * Mientras está activo se registra en cada vsync del hilo de la UI; si onDraw
+ * u otro trabajo del hilo bloquea más de un periodo, la siguiente marca llega
+ * tarde y cuenta como vsync perdido. Debe usarse desde el hilo de la UI.
+ */
+public class FramePacingMonitor implements Choreographer.FrameCallback {
+
+    /**
+     * Avance actual del barrido (θ/periodo), para relacionarlo con los tirones
+     */
+    public interface SweepProgress {
+        double sweepProgress();
+    }
+
+    /**
+     * Origen de las marcas de vsync (las pruebas de JVM pasan uno falso)
+     */
+    public interface FrameSource {
+        void postFrameCallback(Choreographer.FrameCallback callback);
+
+        void removeFrameCallback(Choreographer.FrameCallback callback);
+    }
+
+    /**
+     * Choreographer del hilo que llama (falla si el hilo no tiene Looper)
+     */
+    public static final FrameSource CHOREOGRAPHER = new FrameSource() {
+        @Override
+        public void postFrameCallback(Choreographer.FrameCallback callback) {
+            Choreographer.getInstance().postFrameCallback(callback);
+        }
+
+        @Override
+        public void removeFrameCallback(Choreographer.FrameCallback callback) {
+            Choreographer.getInstance().removeFrameCallback(callback);
+        }
+    };
+
+    private final FramePacingStats stats;
+    private final SweepProgress sweep;
+    private final FrameSource frames;
+    private boolean running = false;
+
+    public FramePacingMonitor(FramePacingStats stats, SweepProgress sweep) {
+        this(stats, sweep, CHOREOGRAPHER);
+    }
+
+    public FramePacingMonitor(FramePacingStats stats, SweepProgress sweep, FrameSource frames) {
+        this.stats = stats;
+        this.sweep = sweep;
+        this.frames = frames;
+    }
+
+    /**
+     * Empieza a medir (no cuenta el hueco desde la última parada)
+     */
+    public void start(float refreshRateHz) {
+        stats.setRefreshRate(refreshRateHz);
+        if (running) return;
+
+        running = true;
+        stats.breakSequence();
+        frames.postFrameCallback(this);
+    }
+
+    public void stop() {
+        if (!running) return;
+
+        running = false;
+        frames.removeFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!running) return;
+
+        stats.onFrame(frameTimeNanos, sweep.sweepProgress());
+        frames.postFrameCallback(this);
+    }
+}
@@ -0,0 +1,172 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * FramePacingStats - Frames fuera de plazo respecto al refresco de la pantalla
+ *
+ * Recibe la marca de tiempo de cada frame de una animación continua y cuenta
+ * los vsyncs perdidos entre frames consecutivos: round(intervalo / periodo) − 1.
+ * Un frame es "jank" si perdió al menos un vsync (intervalo ≥ 1.5 periodos).
+ * Guarda un histograma por vsyncs perdidos y, para relacionar los tirones con
+ * el trabajo del frame, frames y jank por banda de avance del barrido (θ/periodo):
+ * el número de vértices depende del teselado, el avance no.
+ * Un solo hilo escribe; los contadores son atómicos para leerlos desde la UI.
+ */
+public class FramePacingStats {
+
+    // Histograma por vsyncs perdidos: 0, 1, 2, 3, 4-7, 8+
+    private static final int[] BUCKET_MIN_MISSED = {0, 1, 2, 3, 4, 8};
+    private static final String[] BUCKET_LABELS = {"0", "1", "2", "3", "4-7", "8+"};
+    public static final int BUCKETS = BUCKET_MIN_MISSED.length;
+
+    // Bandas de avance del barrido, cada una 1/SWEEP_BANDS del recorrido
+    public static final int SWEEP_BANDS = 8;
+
+    public static final float DEFAULT_REFRESH_HZ = 60f;
+
+    private volatile long refreshPeriodNanos;
+
+    private final AtomicIntegerArray histogram = new AtomicIntegerArray(BUCKETS);
+    private final AtomicIntegerArray framesByBand = new AtomicIntegerArray(SWEEP_BANDS);
+    private final AtomicIntegerArray jankByBand = new AtomicIntegerArray(SWEEP_BANDS);
+    private final AtomicLong missedVsyncs = new AtomicLong(0L);
+
+    // Marca del frame anterior (solo hilo escritor; −1 = sin frame previo)
+    private long previousFrameNanos = -1L;
+
+    public FramePacingStats() {
+        this.refreshPeriodNanos = periodFromRefreshRate(DEFAULT_REFRESH_HZ);
+    }
+
+    /**
+     * Periodo de vsync de una pantalla de refreshRateHz
+     */
+    public static long periodFromRefreshRate(float refreshRateHz) {
+        float hz = refreshRateHz > 0 ? refreshRateHz : DEFAULT_REFRESH_HZ;
+        return Math.round(1_000_000_000.0 / hz);
+    }
+
+    public void setRefreshRate(float refreshRateHz) {
+        refreshPeriodNanos = periodFromRefreshRate(refreshRateHz);
+    }
+
+    public long refreshPeriodNanos() {
+        return refreshPeriodNanos;
+    }
+
+    /**
+     * Vsyncs perdidos en un intervalo entre frames (redondeado al periodo)
+     */
+    public static int missedVsyncs(long intervalNanos, long periodNanos) {
+        if (periodNanos <= 0) return 0;
+        long periods = (intervalNanos + periodNanos / 2) / periodNanos;
+        return (int) Math.max(0, periods - 1);
+    }
+
+    /**
+     * Cubeta del histograma para un número de vsyncs perdidos
+     */
+    public static int bucketFor(int missed) {
+        for (int i = BUCKETS - 1; i > 0; i--) {
+            if (missed >= BUCKET_MIN_MISSED[i]) return i;
+        }
+        return 0;
+    }
+
+    /**
+     * Banda de un avance del barrido en [0, 1] (fuera de rango: la banda del extremo)
+     */
+    public static int bandFor(double sweepProgress) {
+        int band = (int) (sweepProgress * SWEEP_BANDS);
+        return Math.min(Math.max(band, 0), SWEEP_BANDS - 1);
+    }
+
+    /**
+     * Registra un frame de la animación en curso (hilo escritor, sin reservar memoria)
+     *
+     * @param frameTimeNanos Marca del frame (Choreographer o System.nanoTime)
+     * @param sweepProgress  Avance del barrido en ese frame, θ/periodo en [0, 1]
+     */
+    public void onFrame(long frameTimeNanos, double sweepProgress) {
+        long previous = previousFrameNanos;
+        previousFrameNanos = frameTimeNanos;
+        if (previous < 0 || frameTimeNanos <= previous) return;
+
+        int missed = missedVsyncs(frameTimeNanos - previous, refreshPeriodNanos);
+        int band = bandFor(sweepProgress);
+
+        histogram.incrementAndGet(bucketFor(missed));
+        framesByBand.incrementAndGet(band);
+        if (missed > 0) {
+            jankByBand.incrementAndGet(band);
+            missedVsyncs.addAndGet(missed);
+        }
+    }
+
+    /**
+     * La animación se detuvo: el próximo frame no se compara con el anterior
+     */
+    public void breakSequence() {
+        previousFrameNanos = -1L;
+    }
+
+    /**
+     * Intervalos medidos
+     */
+    public int frameCount() {
+        int total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            total += histogram.get(i);
+        }
+        return total;
+    }
+
+    public int jankyFrameCount() {
+        return frameCount() - histogram.get(0);
+    }
+
+    public long missedVsyncCount() {
+        return missedVsyncs.get();
+    }
+
+    public int histogram(int bucket) {
+        return histogram.get(bucket);
+    }
+
+    public int framesInBand(int band) {
+        return framesByBand.get(band);
+    }
+
+    public int jankInBand(int band) {
+        return jankByBand.get(band);
+    }
+
+    /**
+     * Contadores, histograma y jank por banda de avance (hilo de la UI)
+     */
+    public String summary() {
+        int frames = frameCount();
+        int janky = jankyFrameCount();
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "jank: %d/%d frames (%.1f%%), %d vsyncs perdidos a %.0f Hz",
+                janky, frames, frames == 0 ? 0.0 : 100.0 * janky / frames, missedVsyncCount(),
+                1e9 / refreshPeriodNanos));
+
+        sb.append("\nvsyncs perdidos");
+        for (int i = 0; i < BUCKETS; i++) {
+            sb.append(' ').append(BUCKET_LABELS[i]).append(':').append(histogram.get(i));
+        }
+
+        sb.append("\nbarrido (jank/frames)");
+        for (int band = 0; band < SWEEP_BANDS; band++) {
+            if (framesByBand.get(band) == 0) continue;
+            sb.append(' ').append(band * 100 / SWEEP_BANDS).append('-')
+                    .append((band + 1) * 100 / SWEEP_BANDS).append("%:")
+                    .append(jankByBand.get(band)).append('/').append(framesByBand.get(band));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,218 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * FrameProfiler - Tiempo de CPU por etapa de onDrawFrame (opcional)
+ *
+ * El hilo GL llama a beginFrame(), mark(etapa) al terminar cada etapa y
+ * endFrame(); cada mark suma el tiempo desde la marca anterior. Las muestras
+ * se publican en un buffer circular sin bloqueos (un escritor, cualquier
+ * número de lectores): cada ranura lleva un número de secuencia impar mientras
+ * se escribe, y el lector descarta las que cambian durante su lectura.
+ * Desactivado, cada llamada es una comprobación de un booleano.
+ */
+public class FrameProfiler {
+
+    // Etapas de onDrawFrame
+    public static final int COMMANDS = 0;
+    public static final int CAMERA = 1;
+    public static final int GLOW = 2;
+    public static final int ANIMATION = 3;
+    public static final int TESSELLATE = 4;           // Re-teselado del trazo al acercar la cámara
+    public static final int DRAW_GPU_CURVE = 5;
+    public static final int DRAW_AXIS = 6;
+    public static final int DRAW_AREA = 7;
+    public static final int DRAW_TRAIL = 8;
+    public static final int DRAW_WHEEL = 9;
+    public static final int DRAW_SCENE = 10;
+    public static final int STAGE_COUNT = 11;
+
+    // Campos adicionales de cada muestra
+    public static final int FRAME = STAGE_COUNT;      // CPU del frame completo
+    public static final int GPU = STAGE_COUNT + 1;    // GPU (−1 = sin dato)
+    public static final int FIELDS = STAGE_COUNT + 2;
+
+    private static final String[] NAMES = {
+            "órdenes", "cámara", "brillo", "animación", "teselado", "curva GPU",
+            "eje", "área", "trazo", "rueda", "escena", "frame", "GPU"
+    };
+
+    public static final int DEFAULT_CAPACITY = 240;
+
+    private final AnimationClock.TimeSource timeSource;
+    private final int capacity;
+
+    // capacity × FIELDS nanosegundos y una secuencia por ranura
+    private final AtomicLongArray samples;
+    private final AtomicLongArray sequence;
+    private final AtomicLong published = new AtomicLong(0L);
+
+    private volatile boolean enabled = false;
+
+    // Frame en curso (solo hilo GL)
+    private final long[] current = new long[FIELDS];
+    private boolean inFrame = false;
+    private long frameStart;
+    private long lastMark;
+
+    public FrameProfiler(AnimationClock.TimeSource timeSource) {
+        this(timeSource, DEFAULT_CAPACITY);
+    }
+
+    public FrameProfiler(AnimationClock.TimeSource timeSource, int capacity) {
+        this.timeSource = timeSource;
+        this.capacity = capacity;
+        this.samples = new AtomicLongArray(capacity * FIELDS);
+        this.sequence = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * Activa o desactiva la medición (cualquier hilo; aplica desde el próximo frame)
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Inicia un frame (hilo GL)
+     *
+     * @return true si este frame se mide
+     */
+    public boolean beginFrame() {
+        inFrame = enabled;
+        if (!inFrame) return false;
+
+        Arrays.fill(current, 0L);
+        current[GPU] = -1L;
+        frameStart = timeSource.nanoTime();
+        lastMark = frameStart;
+        return true;
+    }
+
+    /**
+     * Atribuye a la etapa el tiempo transcurrido desde la marca anterior
+     */
+    public void mark(int stage) {
+        if (!inFrame) return;
+
+        long now = timeSource.nanoTime();
+        current[stage] += now - lastMark;
+        lastMark = now;
+    }
+
+    /**
+     * Tiempo de GPU medido (llega con unos frames de retraso; negativo = sin dato)
+     */
+    public void recordGpu(long nanos) {
+        if (!inFrame || nanos < 0) return;
+        current[GPU] = nanos;
+    }
+
+    /**
+     * Cierra el frame y publica la muestra (hilo GL)
+     */
+    public void endFrame() {
+        if (!inFrame) return;
+        inFrame = false;
+        current[FRAME] = timeSource.nanoTime() - frameStart;
+
+        long n = published.get();
+        int slot = (int) (n % capacity);
+        int base = slot * FIELDS;
+
+        sequence.set(slot, 2 * n + 1);
+        for (int i = 0; i < FIELDS; i++) {
+            samples.set(base + i, current[i]);
+        }
+        sequence.set(slot, 2 * n + 2);
+        published.set(n + 1);
+    }
+
+    /**
+     * Frames publicados desde la creación
+     */
+    public long frameCount() {
+        return published.get();
+    }
+
+    /**
+     * Copia los valores válidos de un campo de las muestras retenidas
+     *
+     * @param out Al menos capacity elementos
+     * @return número de valores copiados
+     */
+    public int snapshot(int field, long[] out) {
+        long end = published.get();
+        long start = Math.max(0, end - capacity);
+        int count = 0;
+
+        for (long n = start; n < end; n++) {
+            int slot = (int) (n % capacity);
+            long expected = 2 * n + 2;
+            if (sequence.get(slot) != expected) continue;   // Escribiéndose o ya reemplazada
+
+            long value = samples.get(slot * FIELDS + field);
+            if (sequence.get(slot) != expected) continue;
+            if (value >= 0) {
+                out[count++] = value;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Percentil por rango más cercano de un campo, en nanosegundos (−1 = sin datos)
+     */
+    public long percentile(int field, double percent) {
+        long[] values = new long[capacity];
+        int count = snapshot(field, values);
+        return percentileOf(values, count, percent);
+    }
+
+    static long percentileOf(long[] values, int count, double percent) {
+        if (count == 0) return -1L;
+
+        Arrays.sort(values, 0, count);
+        int rank = (int) Math.ceil(percent / 100.0 * count);
+        return values[Math.max(0, Math.min(count, rank) - 1)];
+    }
+
+    /**
+     * Tabla p50/p95/p99 en milisegundos de los campos con tiempo medido (hilo de la UI)
+     */
+    public String summary() {
+        long[] values = new long[capacity];
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-10s %6s %6s %6s  (ms, últimos %d)",
+                "etapa", "p50", "p95", "p99", Math.min(frameCount(), capacity)));
+
+        // Totales primero, luego las etapas
+        int[] order = new int[FIELDS];
+        order[0] = FRAME;
+        order[1] = GPU;
+        for (int i = 0; i < STAGE_COUNT; i++) {
+            order[i + 2] = i;
+        }
+
+        for (int field : order) {
+            int count = snapshot(field, values);
+            long p99 = percentileOf(values, count, 99);
+            if (count == 0 || values[count - 1] == 0) continue;   // Sin datos o etapa sin ejecutar
+
+            sb.append('\n').append(String.format(Locale.ROOT, "%-10s %6.2f %6.2f %6.2f",
+                    NAMES[field],
+                    percentileOf(values, count, 50) / 1e6,
+                    percentileOf(values, count, 95) / 1e6,
+                    p99 / 1e6));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,75 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.nio.Buffer;
+
+/**
+ * GLApi - Subconjunto de OpenGL ES que usa el renderer
+ *
+ * Permite sustituir GLES20 por una implementación falsa en las pruebas de JVM
+ * (por ejemplo, para contar llamadas por frame). Las firmas replican las de
+ * android.opengl.GLES20.
+ */
+public interface GLApi {
+
+    // Estado global
+    void glClearColor(float red, float green, float blue, float alpha);
+    void glClear(int mask);
+    void glEnable(int cap);
+    void glDepthFunc(int func);
+    void glBlendFunc(int sfactor, int dfactor);
+    void glViewport(int x, int y, int width, int height);
+    void glLineWidth(float width);
+    String glGetString(int name);
+    void glGetIntegerv(int pname, int[] params, int offset);
+
+    // Shaders y programas
+    int glCreateShader(int type);
+    void glShaderSource(int shader, String source);
+    void glCompileShader(int shader);
+    void glGetShaderiv(int shader, int pname, int[] params, int offset);
+    String glGetShaderInfoLog(int shader);
+    void glDeleteShader(int shader);
+    int glCreateProgram();
+    void glAttachShader(int program, int shader);
+    void glLinkProgram(int program);
+    void glGetProgramiv(int program, int pname, int[] params, int offset);
+    String glGetProgramInfoLog(int program);
+    void glDeleteProgram(int program);
+    void glUseProgram(int program);
+    int glGetAttribLocation(int program, String name);
+    int glGetUniformLocation(int program, String name);
+
+    // Binarios de programa (solo contextos OpenGL ES 3.0+)
+    void glProgramParameteri(int program, int pname, int value);
+    void glGetProgramBinary(int program, int bufSize, int[] length, int lengthOffset,
+                            int[] binaryFormat, int binaryFormatOffset, Buffer binary);
+    void glProgramBinary(int program, int binaryFormat, Buffer binary, int length);
+
+    // Consultas de tiempo (solo contextos OpenGL ES 3.0+)
+    void glGenQueries(int n, int[] ids, int offset);
+    void glBeginQuery(int target, int id);
+    void glEndQuery(int target);
+    void glGetQueryObjectuiv(int id, int pname, int[] params, int offset);
+
+    // Uniformes
+    void glUniform1f(int location, float x);
+    void glUniform4f(int location, float x, float y, float z, float w);
+    void glUniformMatrix4fv(int location, int count, boolean transpose, float[] value, int offset);
+    void glVertexAttrib4f(int index, float x, float y, float z, float w);
+
+    // Atributos y buffers
+    void glEnableVertexAttribArray(int index);
+    void glDisableVertexAttribArray(int index);
+    void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, Buffer ptr);
+    void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, int offset);
+    void glGenBuffers(int n, int[] buffers, int offset);
+    void glBindBuffer(int target, int buffer);
+    void glBufferData(int target, int size, Buffer data, int usage);
+
+    // Dibujo
+    void glDrawArrays(int mode, int first, int count);
+
+    // Instanciado (solo contextos OpenGL ES 3.0+)
+    void glVertexAttribDivisor(int index, int divisor);
+    void glDrawArraysInstanced(int mode, int first, int count, int instanceCount);
+}
@@ -0,0 +1,42 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.opengl.GLSurfaceView;
+import android.util.Log;
+import javax.microedition.khronos.egl.EGL10;
+import javax.microedition.khronos.egl.EGLConfig;
+import javax.microedition.khronos.egl.EGLContext;
+import javax.microedition.khronos.egl.EGLDisplay;
+
+/**
+ * GLContextFactory - Crea un contexto OpenGL ES 3.0 y, si no es posible, uno 2.0
+ *
+ * Los shaders del renderer son GLSL ES 1.00 y funcionan en ambos; el contexto
+ * 3.0 habilita extras opcionales como la caché de binarios de programa.
+ */
+public class GLContextFactory implements GLSurfaceView.EGLContextFactory {
+
+    private static final String TAG = "GLContextFactory";
+    private static final int EGL_CONTEXT_CLIENT_VERSION = 0x3098;
+
+    @Override
+    public EGLContext createContext(EGL10 egl, EGLDisplay display, EGLConfig config) {
+        EGLContext context = create(egl, display, config, 3);
+        if (context == null || context == EGL10.EGL_NO_CONTEXT) {
+            Log.i(TAG, "OpenGL ES 3.0 no disponible, usando 2.0");
+            context = create(egl, display, config, 2);
+        }
+        return context;
+    }
+
+    @Override
+    public void destroyContext(EGL10 egl, EGLDisplay display, EGLContext context) {
+        if (!egl.eglDestroyContext(display, context)) {
+            Log.e(TAG, "eglDestroyContext falló: " + egl.eglGetError());
+        }
+    }
+
+    private EGLContext create(EGL10 egl, EGLDisplay display, EGLConfig config, int version) {
+        int[] attributes = {EGL_CONTEXT_CLIENT_VERSION, version, EGL10.EGL_NONE};
+        return egl.eglCreateContext(display, config, EGL10.EGL_NO_CONTEXT, attributes);
+    }
+}
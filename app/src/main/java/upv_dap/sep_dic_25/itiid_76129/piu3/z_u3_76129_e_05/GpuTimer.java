@@ -0,0 +1,76 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.opengl.GLES20;
+import android.opengl.GLES30;
+
+/**
+ * GpuTimer - Tiempo de GPU por frame con EXT_disjoint_timer_query
+ *
+ * Cada frame abre una consulta GL_TIME_ELAPSED_EXT sobre un anillo de
+ * QUERIES objetos; el resultado se lee sin bloquear unos frames después,
+ * cuando el driver lo marca disponible. Si el contador se interrumpió
+ * (GL_GPU_DISJOINT_EXT) la medida se descarta. Requiere OpenGL ES 3.0+.
+ */
+public class GpuTimer {
+
+    static final String EXTENSION = "GL_EXT_disjoint_timer_query";
+    static final int GL_TIME_ELAPSED_EXT = 0x88BF;
+    static final int GL_GPU_DISJOINT_EXT = 0x8FBB;
+
+    // Frames de retraso tolerados antes de reutilizar una consulta
+    private static final int QUERIES = 4;
+
+    private final GLApi gl;
+    private final int[] queries = new int[QUERIES];
+    private final boolean[] pending = new boolean[QUERIES];
+    private final int[] result = new int[1];
+    private int next = 0;
+
+    public GpuTimer(GLApi gl) {
+        this.gl = gl;
+        gl.glGenQueries(QUERIES, queries, 0);
+    }
+
+    /**
+     * Contexto ES 3.0+ con la extensión de consultas de tiempo
+     */
+    public static boolean isSupported(GLApi gl) {
+        String version = String.valueOf(gl.glGetString(GLES20.GL_VERSION));
+        String extensions = String.valueOf(gl.glGetString(GLES20.GL_EXTENSIONS));
+        return version.startsWith("OpenGL ES 3") && extensions.contains(EXTENSION);
+    }
+
+    /**
+     * Abre la consulta del frame; una consulta aún sin resultado se abandona
+     */
+    public void begin() {
+        pending[next] = false;
+        gl.glBeginQuery(GL_TIME_ELAPSED_EXT, queries[next]);
+    }
+
+    public void end() {
+        gl.glEndQuery(GL_TIME_ELAPSED_EXT);
+        pending[next] = true;
+        next = (next + 1) % QUERIES;
+    }
+
+    /**
+     * Resultado de la consulta más antigua, sin esperar a la GPU
+     *
+     * @return nanosegundos, o −1 si aún no está disponible o no es fiable
+     */
+    public long poll() {
+        int slot = next;
+        if (!pending[slot]) return -1L;
+
+        gl.glGetQueryObjectuiv(queries[slot], GLES30.GL_QUERY_RESULT_AVAILABLE, result, 0);
+        if (result[0] == 0) return -1L;
+
+        gl.glGetQueryObjectuiv(queries[slot], GLES30.GL_QUERY_RESULT, result, 0);
+        pending[slot] = false;
+        long nanos = result[0] & 0xFFFFFFFFL;
+
+        gl.glGetIntegerv(GL_GPU_DISJOINT_EXT, result, 0);
+        return result[0] != 0 ? -1L : nanos;
+    }
+}
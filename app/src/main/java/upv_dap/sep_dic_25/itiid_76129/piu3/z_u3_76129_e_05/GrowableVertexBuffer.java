@@ -0,0 +1,133 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * GrowableVertexBuffer - Buffer de vértices (x, y, z) de solo anexado
+ *
+ * Mantiene un único FloatBuffer que crece por duplicación. Añadir un vértice
+ * cuesta O(1) amortizado y, una vez que el buffer alcanza su tamaño de trabajo,
+ * no se vuelve a reservar memoria (clear() conserva la capacidad).
+ * Es el almacén primitivo del trazo: el renderer dibuja directamente buffer()
+ * y los demás consumidores leen los vértices por índice, sin un objeto por punto.
+ */
+public class GrowableVertexBuffer {
+
+    public static final int FLOATS_PER_VERTEX = 3;
+    public static final int BYTES_PER_VERTEX = FLOATS_PER_VERTEX * 4;
+
+    /**
+     * Estrategia de reserva de memoria del buffer subyacente
+     */
+    public interface Allocator {
+        FloatBuffer allocate(int floatCapacity);
+
+        /**
+         * Recibe el buffer sustituido al crecer (por defecto lo recoge el GC)
+         */
+        default void recycle(FloatBuffer buffer) {
+        }
+    }
+
+    /**
+     * Reserva buffers directos en orden nativo, listos para glVertexAttribPointer
+     */
+    public static final Allocator DIRECT = new Allocator() {
+        @Override
+        public FloatBuffer allocate(int floatCapacity) {
+            ByteBuffer bb = ByteBuffer.allocateDirect(floatCapacity * 4);
+            bb.order(ByteOrder.nativeOrder());
+            return bb.asFloatBuffer();
+        }
+    };
+
+    private final Allocator allocator;
+    private FloatBuffer buffer;
+    private int vertexCount = 0;
+
+    public GrowableVertexBuffer(int initialVertexCapacity) {
+        this(initialVertexCapacity, DIRECT);
+    }
+
+    public GrowableVertexBuffer(int initialVertexCapacity, Allocator allocator) {
+        this.allocator = allocator;
+        this.buffer = allocator.allocate(Math.max(1, initialVertexCapacity) * FLOATS_PER_VERTEX);
+    }
+
+    /**
+     * Añade un vértice al final del buffer
+     */
+    public void append(float x, float y, float z) {
+        ensureCapacity(vertexCount + 1);
+        int base = vertexCount * FLOATS_PER_VERTEX;
+        buffer.put(base, x);
+        buffer.put(base + 1, y);
+        buffer.put(base + 2, z);
+        vertexCount++;
+    }
+
+    /**
+     * Quita el último vértice (p. ej. un vértice provisional que se recoloca)
+     */
+    public void removeLast() {
+        if (vertexCount > 0) vertexCount--;
+    }
+
+    /**
+     * Descarta los vértices pero conserva la memoria reservada
+     */
+    public void clear() {
+        vertexCount = 0;
+    }
+
+    public int vertexCount() {
+        return vertexCount;
+    }
+
+    public int vertexCapacity() {
+        return buffer.capacity() / FLOATS_PER_VERTEX;
+    }
+
+    public float x(int index) {
+        return buffer.get(index * FLOATS_PER_VERTEX);
+    }
+
+    public float y(int index) {
+        return buffer.get(index * FLOATS_PER_VERTEX + 1);
+    }
+
+    public float z(int index) {
+        return buffer.get(index * FLOATS_PER_VERTEX + 2);
+    }
+
+    /**
+     * Devuelve el buffer posicionado al inicio para dibujar vertexCount() vértices
+     */
+    public FloatBuffer buffer() {
+        buffer.position(0);
+        return buffer;
+    }
+
+    /**
+     * Garantiza espacio para al menos minVertices, duplicando la capacidad
+     */
+    private void ensureCapacity(int minVertices) {
+        int capacity = vertexCapacity();
+        if (minVertices <= capacity) return;
+
+        int newCapacity = Math.max(minVertices, capacity * 2);
+        FloatBuffer grown = allocator.allocate(newCapacity * FLOATS_PER_VERTEX);
+
+        // Copiar solo la parte ocupada del buffer anterior
+        buffer.position(0);
+        buffer.limit(vertexCount * FLOATS_PER_VERTEX);
+        grown.put(buffer);
+        grown.position(0);
+
+        FloatBuffer previous = buffer;
+        buffer = grown;
+        allocator.recycle(previous);
+    }
+}
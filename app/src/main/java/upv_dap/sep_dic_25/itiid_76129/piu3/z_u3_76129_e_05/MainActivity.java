@@ -2,6 +2,7 @@ package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
 
 
 import android.os.Bundle;
+import android.util.Log;
 import android.view.View;
 import android.widget.Button;
 import android.widget.EditText;
@@ -17,6 +18,11 @@ import androidx.appcompat.app.AppCompatActivity;
  */
 public class MainActivity extends AppCompatActivity {
 
+    private static final String TAG = "MainActivity";
+
+    // Refresco del panel de perfilado
+    private static final long PROFILER_REFRESH_MS = 1000;
+
     // Componentes de la UI
     private EditText etRadius;
     private Button btnCalculate;
@@ -26,6 +32,17 @@ public class MainActivity extends AppCompatActivity {
     // Constante matemática PI
     private static final double PI = Math.PI;
 
+    // Perfilado opcional: pulsación larga sobre el panel de resultados
+    private boolean profilingEnabled = false;
+    private String resultText;
+    private final Runnable profilerRefresh = new Runnable() {
+        @Override
+        public void run() {
+            showProfilerSummary();
+            tvResult.postDelayed(this, PROFILER_REFRESH_MS);
+        }
+    };
+
     @Override
     protected void onCreate(Bundle savedInstanceState) {
         super.onCreate(savedInstanceState);
@@ -49,6 +66,7 @@ public class MainActivity extends AppCompatActivity {
 
         // Valor por defecto
         etRadius.setText("50");
+        resultText = tvResult.getText().toString();
     }
 
     /**
@@ -61,6 +79,43 @@ public class MainActivity extends AppCompatActivity {
                 startVisualization();
             }
         });
+
+        tvResult.setOnLongClickListener(new View.OnLongClickListener() {
+            @Override
+            public boolean onLongClick(View v) {
+                setProfilingEnabled(!profilingEnabled);
+                return true;
+            }
+        });
+    }
+
+    /**
+     * Activa o desactiva la medición por etapas y su tabla en el panel
+     */
+    private void setProfilingEnabled(boolean enabled) {
+        profilingEnabled = enabled;
+        cycloidView.setProfilingEnabled(enabled);
+        tvResult.removeCallbacks(profilerRefresh);
+
+        if (enabled) {
+            tvResult.post(profilerRefresh);
+        } else {
+            tvResult.setText(resultText);
+        }
+        Toast.makeText(this, enabled ? "Perfilado activado" : "Perfilado desactivado",
+                Toast.LENGTH_SHORT).show();
+    }
+
+    /**
+     * Muestra el resultado seguido de los percentiles por etapa, el jank y la
+     * memoria directa (y los envía a logcat)
+     */
+    private void showProfilerSummary() {
+        String summary = cycloidView.getProfilerSummary()
+                + "\n" + cycloidView.getFramePacing().summary()
+                + "\n" + cycloidView.getBufferPool().summary();
+        Log.i(TAG, "Perfil de frame:\n" + summary);
+        tvResult.setText(resultText + "\n\n" + summary);
     }
 
     /**
@@ -124,7 +179,12 @@ public class MainActivity extends AppCompatActivity {
                         "Valor de π: %.6f",
                 radius, area, PI
         );
-        tvResult.setText(result);
+        resultText = result;
+        if (profilingEnabled) {
+            showProfilerSummary();
+        } else {
+            tvResult.setText(result);
+        }
     }
 
     @Override
@@ -134,6 +194,7 @@ public class MainActivity extends AppCompatActivity {
         if (cycloidView != null) {
             cycloidView.pauseAnimation();
         }
+        tvResult.removeCallbacks(profilerRefresh);
     }
 
     @Override
@@ -143,5 +204,8 @@ public class MainActivity extends AppCompatActivity {
         if (cycloidView != null) {
             cycloidView.resumeAnimation();
         }
+        if (profilingEnabled) {
+            tvResult.post(profilerRefresh);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * RenderCommandQueue - Órdenes de la UI hacia el hilo GL sin bloqueos
+ *
+ * El hilo de la UI publica órdenes (iniciar, pausar, zoom...) y el hilo GL las
+ * ejecuta al inicio de cada frame, así el estado del renderer solo se toca desde
+ * un hilo. Los deltas de rotación táctil no se encolan uno a uno: se acumulan en
+ * un único long atómico (dos floats empaquetados) y se consumen una vez por frame.
+ */
+public class RenderCommandQueue {
+
+    private final ConcurrentLinkedQueue<Runnable> commands = new ConcurrentLinkedQueue<>();
+
+    // Bits de (deltaX, deltaY) pendientes; 0L equivale a (0f, 0f)
+    private final AtomicLong pendingRotation = new AtomicLong(0L);
+
+    /**
+     * Publica una orden para el próximo frame (cualquier hilo)
+     */
+    public void post(Runnable command) {
+        commands.add(command);
+    }
+
+    /**
+     * Suma un delta de rotación al pendiente, sin reservar memoria (cualquier hilo)
+     */
+    public void addRotation(float deltaX, float deltaY) {
+        long current;
+        long updated;
+        do {
+            current = pendingRotation.get();
+            updated = pack(rotationX(current) + deltaX, rotationY(current) + deltaY);
+        } while (!pendingRotation.compareAndSet(current, updated));
+    }
+
+    /**
+     * Retira la rotación acumulada desde la última llamada (hilo GL)
+     *
+     * @return ambos deltas empaquetados; leer con rotationX() y rotationY()
+     */
+    public long takeRotation() {
+        return pendingRotation.getAndSet(0L);
+    }
+
+    /**
+     * Ejecuta en orden las órdenes pendientes (hilo GL)
+     *
+     * @return número de órdenes ejecutadas
+     */
+    public int drainCommands() {
+        int executed = 0;
+        Runnable command;
+        while ((command = commands.poll()) != null) {
+            command.run();
+            executed++;
+        }
+        return executed;
+    }
+
+    public static float rotationX(long packed) {
+        return Float.intBitsToFloat((int) (packed >>> 32));
+    }
+
+    public static float rotationY(long packed) {
+        return Float.intBitsToFloat((int) packed);
+    }
+
+    private static long pack(float x, float y) {
+        return ((long) Float.floatToIntBits(x) << 32) | (Float.floatToIntBits(y) & 0xFFFFFFFFL);
+    }
+}
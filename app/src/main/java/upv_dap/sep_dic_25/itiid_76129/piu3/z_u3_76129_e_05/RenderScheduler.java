@@ -0,0 +1,80 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * RenderScheduler - Planificador de frames para RENDERMODE_WHEN_DIRTY
+ *
+ * Tras cada frame el renderer informa si alguna animación sigue activa; solo
+ * entonces se pide el siguiente frame. Los eventos externos (táctil, órdenes de
+ * la UI) piden un frame con requestFrame(). Además mide los frames dibujados
+ * mientras la escena estaba en reposo, expresados por minuto de reposo.
+ */
+public class RenderScheduler {
+
+    private static final double NANOS_PER_MINUTE = 60e9;
+
+    /**
+     * Destino de las peticiones de frame (GLSurfaceView::requestRender)
+     */
+    public interface RenderRequester {
+        void requestRender();
+    }
+
+    private final RenderRequester requester;
+
+    // Métrica de reposo (escrita en el hilo GL, leída desde la UI)
+    private boolean idle = true;
+    private long idleSinceNanos;
+    private long idleNanos = 0;
+    private long idleFrames = 0;
+
+    public RenderScheduler(RenderRequester requester, long nowNanos) {
+        this.requester = requester;
+        this.idleSinceNanos = nowNanos;
+    }
+
+    /**
+     * Pide un frame por un evento externo (toque, inicio/pausa de animación)
+     */
+    public void requestFrame() {
+        requester.requestRender();
+    }
+
+    /**
+     * Llamar al final de cada frame desde el hilo GL
+     *
+     * @param active true si alguna animación necesita el siguiente frame
+     */
+    public synchronized void onFrameRendered(boolean active, long nowNanos) {
+        if (idle) {
+            idleNanos += nowNanos - idleSinceNanos;
+            if (!active) {
+                // Frame dibujado sin animación en curso (p. ej. por un toque)
+                idleFrames++;
+            }
+        }
+
+        idle = !active;
+        idleSinceNanos = nowNanos;
+
+        if (active) {
+            requester.requestRender();
+        }
+    }
+
+    /**
+     * Frames dibujados por minuto de reposo, incluido el reposo en curso
+     */
+    public synchronized double idleFramesPerMinute(long nowNanos) {
+        long total = idleNanos + (idle ? nowNanos - idleSinceNanos : 0);
+        if (total <= 0) return 0;
+        return idleFrames * NANOS_PER_MINUTE / total;
+    }
+
+    public synchronized long idleFrames() {
+        return idleFrames;
+    }
+
+    public synchronized boolean isIdle() {
+        return idle;
+    }
+}
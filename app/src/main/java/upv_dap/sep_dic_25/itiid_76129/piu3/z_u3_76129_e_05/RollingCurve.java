@@ -0,0 +1,133 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * RollingCurve - Curva que traza un punto unido a una rueda de radio a que rueda
+ *
+ * Cicloides, trocoides (punto a distancia d ≠ a del centro), epicicloides e
+ * hipocicloides (la rueda rueda por fuera o por dentro de un círculo fijo).
+ * El renderer solo evalúa vértices por lotes con evaluate(), una llamada por
+ * grupo de θ, y el teselado adaptativo consulta una tabla precalculada del
+ * factor de flecha (maxBend) en lugar de llamar a la curva por vértice.
+ */
+public abstract class RollingCurve {
+
+    // Componentes por punto en evaluate(): (x, y)
+    public static final int STRIDE = 2;
+
+    // Celdas de la tabla de flecha por cada 2π de θ, muestras por celda y margen
+    // para los máximos que caen entre dos muestras
+    private static final int BEND_CELLS_PER_TURN = 256;
+    private static final int BEND_SAMPLES = 4;
+    private static final double BEND_MARGIN = 1.05;
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    protected final double radius;
+
+    // bend() máximo por celda de θ en [0, period()); se calcula al primer uso
+    private double[] bendTable;
+    private double bendCellWidth;
+
+    protected RollingCurve(double radius) {
+        this.radius = radius;
+    }
+
+    /**
+     * Radio a de la rueda que rueda
+     */
+    public double radius() {
+        return radius;
+    }
+
+    public abstract double x(double theta);
+
+    public abstract double y(double theta);
+
+    public abstract double wheelCenterX(double theta);
+
+    public abstract double wheelCenterY(double theta);
+
+    /**
+     * Giro de la rueda en θ (radianes, antihorario)
+     */
+    public abstract double wheelRotation(double theta);
+
+    /**
+     * θ de un trazado completo: un arco de 2π, o hasta que la curva se cierra
+     */
+    public abstract double period();
+
+    /**
+     * Traslación en x entre periodos consecutivos (0 = curva cerrada)
+     */
+    public abstract double archShift();
+
+    /**
+     * Punto al que mira la cámara para ver un periodo completo
+     */
+    public abstract double viewCenterX();
+
+    public abstract double viewCenterY();
+
+    /**
+     * Mayor dimensión de un periodo (ancho del encuadre de la cámara)
+     */
+    public abstract double extent();
+
+    /**
+     * true: el área se rellena hasta el eje X; false: hasta el centro del círculo fijo (origen)
+     */
+    public boolean fillsToAxis() {
+        return archShift() > 0;
+    }
+
+    /**
+     * Evalúa los θ de thetas[from .. from + count) como pares (x, y) desde offset
+     */
+    public abstract void evaluate(double[] thetas, int from, int count, float[] out, int offset);
+
+    /**
+     * Factor de flecha en θ: un tramo de parámetro h se aparta de su cuerda como
+     * mucho bend·h²/8. |r''| es siempre una cota válida, también en las cúspides.
+     */
+    protected abstract double bend(double theta);
+
+    /**
+     * Cota de bend() en [from, to] según la tabla (hilo GL; sin reservar memoria tras el primer uso)
+     */
+    public final double maxBend(double from, double to) {
+        if (bendTable == null) {
+            buildBendTable();
+        }
+
+        int cells = bendTable.length;
+        double period = period();
+        double start = from - Math.floor(from / period) * period;
+        int first = Math.min((int) (start / bendCellWidth), cells - 1);
+        int span = (int) Math.ceil(Math.max(0, to - from) / bendCellWidth);
+
+        double max = 0;
+        for (int i = 0; i <= Math.min(span, cells); i++) {
+            max = Math.max(max, bendTable[(first + i) % cells]);
+        }
+        return max;
+    }
+
+    private void buildBendTable() {
+        double period = period();
+        int cells = Math.max(1, (int) Math.round(BEND_CELLS_PER_TURN * period / TWO_PI));
+        double width = period / cells;
+        double[] table = new double[cells];
+
+        for (int cell = 0; cell < cells; cell++) {
+            double max = 0;
+            for (int s = 0; s <= BEND_SAMPLES; s++) {
+                max = Math.max(max, bend((cell + s / (double) BEND_SAMPLES) * width));
+            }
+            table[cell] = max * BEND_MARGIN;
+        }
+
+        bendCellWidth = width;
+        bendTable = table;
+    }
+}
@@ -0,0 +1,160 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * RouletteCurve - Rueda de radio a que rueda sobre un círculo fijo de radio R
+ *
+ * Por fuera (epi) el centro recorre el círculo de radio C = R + a; por dentro
+ * (hipo), C = R − a. Con k = C/a y el trazador a distancia d del centro:
+ *
+ *   x(θ) = C cos θ ∓ d cos kθ,  y(θ) = C sin θ − d sin kθ
+ *
+ * (− para epi, + para hipo). Con d = a son la epicicloide y la hipocicloide; la
+ * curva se cierra tras q vueltas si R/a = p/q. El círculo fijo está centrado en
+ * el origen y el área se rellena hasta él.
+ */
+public final class RouletteCurve extends RollingCurve {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    // Mayor denominador de R/a con el que se busca el cierre de la curva
+    private static final int MAX_LAPS = 64;
+
+    private final double fixedRadius;
+    private final double distance;
+    private final boolean outside;
+    private final double centerRadius;   // C
+    private final double ratio;          // k = C / a
+    private final double signX;          // −1 epi, +1 hipo
+    private final double period;
+
+    private RouletteCurve(double fixedRadius, double radius, double distance, boolean outside) {
+        super(radius);
+        if (fixedRadius <= 0 || radius <= 0 || distance < 0 || (!outside && radius >= fixedRadius)) {
+            throw new IllegalArgumentException("Ruleta inválida: R = " + fixedRadius
+                    + ", a = " + radius + ", d = " + distance);
+        }
+        this.fixedRadius = fixedRadius;
+        this.distance = distance;
+        this.outside = outside;
+        this.centerRadius = outside ? fixedRadius + radius : fixedRadius - radius;
+        this.ratio = centerRadius / radius;
+        this.signX = outside ? -1.0 : 1.0;
+        this.period = TWO_PI * laps(fixedRadius / radius);
+    }
+
+    public static RouletteCurve epicycloid(double fixedRadius, double radius) {
+        return new RouletteCurve(fixedRadius, radius, radius, true);
+    }
+
+    public static RouletteCurve hypocycloid(double fixedRadius, double radius) {
+        return new RouletteCurve(fixedRadius, radius, radius, false);
+    }
+
+    public static RouletteCurve epitrochoid(double fixedRadius, double radius, double distance) {
+        return new RouletteCurve(fixedRadius, radius, distance, true);
+    }
+
+    public static RouletteCurve hypotrochoid(double fixedRadius, double radius, double distance) {
+        return new RouletteCurve(fixedRadius, radius, distance, false);
+    }
+
+    /**
+     * Vueltas hasta cerrar: denominador q de R/a = p/q (1 si no hay ninguno ≤ MAX_LAPS)
+     */
+    static int laps(double fixedOverRolling) {
+        for (int q = 1; q <= MAX_LAPS; q++) {
+            double p = fixedOverRolling * q;
+            if (Math.abs(p - Math.rint(p)) < 1e-9 * q * Math.max(1.0, fixedOverRolling)) {
+                return q;
+            }
+        }
+        return 1;
+    }
+
+    public double fixedRadius() {
+        return fixedRadius;
+    }
+
+    public double distance() {
+        return distance;
+    }
+
+    public boolean isOutside() {
+        return outside;
+    }
+
+    @Override
+    public double x(double theta) {
+        return centerRadius * Math.cos(theta) + signX * distance * Math.cos(ratio * theta);
+    }
+
+    @Override
+    public double y(double theta) {
+        return centerRadius * Math.sin(theta) - distance * Math.sin(ratio * theta);
+    }
+
+    @Override
+    public double wheelCenterX(double theta) {
+        return centerRadius * Math.cos(theta);
+    }
+
+    @Override
+    public double wheelCenterY(double theta) {
+        return centerRadius * Math.sin(theta);
+    }
+
+    /**
+     * Giro que lleva el punto inferior de la rueda, (0, −d), al trazador
+     */
+    @Override
+    public double wheelRotation(double theta) {
+        return -signX * (ratio * theta - Math.PI / 2);
+    }
+
+    @Override
+    public double period() {
+        return period;
+    }
+
+    @Override
+    public double archShift() {
+        return 0.0;
+    }
+
+    @Override
+    public double viewCenterX() {
+        return 0.0;
+    }
+
+    @Override
+    public double viewCenterY() {
+        return 0.0;
+    }
+
+    @Override
+    public double extent() {
+        return 2 * (centerRadius + distance);
+    }
+
+    @Override
+    public void evaluate(double[] thetas, int from, int count, float[] out, int offset) {
+        int index = offset;
+        for (int i = from; i < from + count; i++) {
+            double theta = thetas[i];
+            double k = ratio * theta;
+            out[index++] = (float) (centerRadius * Math.cos(theta) + signX * distance * Math.cos(k));
+            out[index++] = (float) (centerRadius * Math.sin(theta) - distance * Math.sin(k));
+        }
+    }
+
+    /**
+     * |r''| con x'' = −C cos θ ∓ dk² cos kθ, y'' = −C sin θ + dk² sin kθ
+     */
+    @Override
+    protected double bend(double theta) {
+        double dkk = distance * ratio * ratio;
+        double ddx = -centerRadius * Math.cos(theta) - signX * dkk * Math.cos(ratio * theta);
+        double ddy = -centerRadius * Math.sin(theta) + dkk * Math.sin(ratio * theta);
+        return Math.sqrt(ddx * ddx + ddy * ddy);
+    }
+}
@@ -0,0 +1,251 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.opengl.GLES20;
+import android.opengl.GLES30;
+import android.util.Log;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ShaderManager - Compilación, validación y caché de programas shader
+ *
+ * - Comprueba GL_COMPILE_STATUS y GL_LINK_STATUS y lanza ShaderException con
+ *   el info log del driver si algo falla.
+ * - Reutiliza los programas ya enlazados mientras el contexto EGL siga vivo.
+ * - En OpenGL ES 3.0+ guarda el binario del programa en almacenamiento privado,
+ *   con clave en el hash de las fuentes y la cadena del driver, para que las
+ *   siguientes creaciones de superficie no tengan que compilar.
+ */
+public class ShaderManager {
+
+    private static final String TAG = "ShaderManager";
+    private static final String BINARY_EXTENSION = ".bin";
+
+    /**
+     * Error de compilación o enlace con el log del driver
+     */
+    public static class ShaderException extends RuntimeException {
+        public ShaderException(String message) {
+            super(message);
+        }
+    }
+
+    private final GLApi gl;
+    private final File binaryCacheDir;
+
+    // Programas enlazados en el contexto actual, por clave de fuentes
+    private final Map<String, Integer> programs = new HashMap<>();
+
+    private String driverId = "";
+    private boolean binariesSupported = false;
+
+    /**
+     * @param binaryCacheDir Directorio privado para binarios; null desactiva la caché en disco
+     */
+    public ShaderManager(GLApi gl, File binaryCacheDir) {
+        this.gl = gl;
+        this.binaryCacheDir = binaryCacheDir;
+    }
+
+    /**
+     * Debe llamarse en onSurfaceCreated: los programas del contexto anterior ya no existen
+     */
+    public void onContextCreated() {
+        programs.clear();
+
+        String version = String.valueOf(gl.glGetString(GLES20.GL_VERSION));
+        driverId = gl.glGetString(GLES20.GL_RENDERER) + "|" + version;
+
+        binariesSupported = false;
+        if (binaryCacheDir != null && version.startsWith("OpenGL ES 3")) {
+            int[] formats = new int[1];
+            gl.glGetIntegerv(GLES30.GL_NUM_PROGRAM_BINARY_FORMATS, formats, 0);
+            binariesSupported = formats[0] > 0;
+        }
+    }
+
+    public boolean binariesSupported() {
+        return binariesSupported;
+    }
+
+    /**
+     * Devuelve un programa enlazado para las fuentes dadas, creándolo si hace falta
+     */
+    public int getProgram(String vertexSource, String fragmentSource) {
+        String key = cacheKey(vertexSource, fragmentSource);
+        Integer cached = programs.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long start = System.nanoTime();
+        int program = 0;
+        String origin;
+
+        if (binariesSupported) {
+            program = loadBinary(key);
+        }
+
+        if (program != 0) {
+            origin = "binario en caché";
+        } else {
+            program = compileAndLink(vertexSource, fragmentSource);
+            origin = binariesSupported ? "compilado (binario guardado)" : "compilado";
+            if (binariesSupported) {
+                saveBinary(key, program);
+            }
+        }
+
+        long elapsedMicros = (System.nanoTime() - start) / 1000;
+        Log.i(TAG, String.format("Programa %d listo en %.2f ms (%s)",
+                program, elapsedMicros / 1000f, origin));
+
+        programs.put(key, program);
+        return program;
+    }
+
+    /**
+     * Compila un shader y verifica GL_COMPILE_STATUS
+     */
+    public int compileShader(int type, String source) {
+        int shader = gl.glCreateShader(type);
+        gl.glShaderSource(shader, source);
+        gl.glCompileShader(shader);
+
+        int[] status = new int[1];
+        gl.glGetShaderiv(shader, GLES20.GL_COMPILE_STATUS, status, 0);
+        if (status[0] == 0) {
+            String log = gl.glGetShaderInfoLog(shader);
+            gl.glDeleteShader(shader);
+            String kind = type == GLES20.GL_VERTEX_SHADER ? "vértices" : "fragmentos";
+            Log.e(TAG, "Error compilando shader de " + kind + ": " + log);
+            throw new ShaderException("Error compilando shader de " + kind + ": " + log);
+        }
+        return shader;
+    }
+
+    private int compileAndLink(String vertexSource, String fragmentSource) {
+        int vertexShader = compileShader(GLES20.GL_VERTEX_SHADER, vertexSource);
+        int fragmentShader = compileShader(GLES20.GL_FRAGMENT_SHADER, fragmentSource);
+
+        int program = gl.glCreateProgram();
+        gl.glAttachShader(program, vertexShader);
+        gl.glAttachShader(program, fragmentShader);
+        if (binariesSupported) {
+            gl.glProgramParameteri(program, GLES30.GL_PROGRAM_BINARY_RETRIEVABLE_HINT, GLES20.GL_TRUE);
+        }
+        gl.glLinkProgram(program);
+
+        // Los shaders ya no hacen falta una vez enlazado el programa
+        gl.glDeleteShader(vertexShader);
+        gl.glDeleteShader(fragmentShader);
+
+        if (!isLinked(program)) {
+            String log = gl.glGetProgramInfoLog(program);
+            gl.glDeleteProgram(program);
+            Log.e(TAG, "Error enlazando programa: " + log);
+            throw new ShaderException("Error enlazando programa: " + log);
+        }
+        return program;
+    }
+
+    private boolean isLinked(int program) {
+        int[] status = new int[1];
+        gl.glGetProgramiv(program, GLES20.GL_LINK_STATUS, status, 0);
+        return status[0] != 0;
+    }
+
+    /**
+     * Intenta crear el programa desde el binario guardado; 0 si no existe o no es válido
+     */
+    private int loadBinary(String key) {
+        File file = new File(binaryCacheDir, key + BINARY_EXTENSION);
+        if (!file.isFile()) return 0;
+
+        int format;
+        byte[] bytes;
+        try (DataInputStream in = new DataInputStream(new FileInputStream(file))) {
+            format = in.readInt();
+            bytes = new byte[in.readInt()];
+            in.readFully(bytes);
+        } catch (IOException e) {
+            Log.w(TAG, "Binario de shader ilegible, se recompila", e);
+            file.delete();
+            return 0;
+        }
+
+        ByteBuffer binary = ByteBuffer.allocateDirect(bytes.length).order(ByteOrder.nativeOrder());
+        binary.put(bytes);
+        binary.position(0);
+
+        int program = gl.glCreateProgram();
+        gl.glProgramBinary(program, format, binary, bytes.length);
+        if (!isLinked(program)) {
+            // El driver rechaza binarios de otra versión: descartar y recompilar
+            gl.glDeleteProgram(program);
+            file.delete();
+            return 0;
+        }
+        return program;
+    }
+
+    private void saveBinary(String key, int program) {
+        int[] length = new int[1];
+        gl.glGetProgramiv(program, GLES30.GL_PROGRAM_BINARY_LENGTH, length, 0);
+        if (length[0] <= 0) return;
+
+        ByteBuffer binary = ByteBuffer.allocateDirect(length[0]).order(ByteOrder.nativeOrder());
+        int[] written = new int[1];
+        int[] format = new int[1];
+        gl.glGetProgramBinary(program, length[0], written, 0, format, 0, binary);
+
+        byte[] bytes = new byte[written[0]];
+        binary.position(0);
+        binary.get(bytes);
+
+        if (!binaryCacheDir.isDirectory() && !binaryCacheDir.mkdirs()) return;
+        File file = new File(binaryCacheDir, key + BINARY_EXTENSION);
+        try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file))) {
+            out.writeInt(format[0]);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        } catch (IOException e) {
+            Log.w(TAG, "No se pudo guardar el binario del shader", e);
+            file.delete();
+        }
+    }
+
+    /**
+     * Clave de caché: SHA-256 de las fuentes y del identificador del driver
+     */
+    private String cacheKey(String vertexSource, String fragmentSource) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(driverId.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(vertexSource.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(fragmentSource.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hex = new StringBuilder();
+            for (byte b : digest.digest()) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 está garantizado en Android y en la JVM
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * ShaderProgram - Programa enlazado con sus ubicaciones resueltas una sola vez
+ *
+ * Tras el enlace consulta vPosition, vColor y uMVPMatrix y expone setters
+ * tipados, de modo que el renderer no vuelve a buscar nombres por frame.
+ * Las subclases pueden usar otro atributo de vértice y resolver más uniformes.
+ */
+public class ShaderProgram {
+
+    protected final GLApi gl;
+    private final int programId;
+    private final int positionHandle;
+    private final int colorHandle;
+    private final int mvpMatrixHandle;
+
+    public ShaderProgram(GLApi gl, int programId) {
+        this(gl, programId, "vPosition");
+    }
+
+    protected ShaderProgram(GLApi gl, int programId, String vertexAttribute) {
+        this.gl = gl;
+        this.programId = programId;
+        this.positionHandle = gl.glGetAttribLocation(programId, vertexAttribute);
+        this.colorHandle = gl.glGetUniformLocation(programId, "vColor");
+        this.mvpMatrixHandle = gl.glGetUniformLocation(programId, "uMVPMatrix");
+    }
+
+    /**
+     * Activa el programa y el arreglo de posiciones (una vez por frame)
+     */
+    public void bind() {
+        gl.glUseProgram(programId);
+        gl.glEnableVertexAttribArray(positionHandle);
+    }
+
+    public void unbind() {
+        gl.glDisableVertexAttribArray(positionHandle);
+    }
+
+    public void setColor(float r, float g, float b, float a) {
+        gl.glUniform4f(colorHandle, r, g, b, a);
+    }
+
+    public void setMvpMatrix(float[] matrix) {
+        gl.glUniformMatrix4fv(mvpMatrixHandle, 1, false, matrix, 0);
+    }
+
+    public int positionHandle() {
+        return positionHandle;
+    }
+
+    public int programId() {
+        return programId;
+    }
+}
@@ -0,0 +1,105 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.opengl.GLES20;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+
+/**
+ * StaticVertexBuffer - Buffer de vértices (VBO) subido una sola vez a la GPU
+ *
+ * Debe crearse en el hilo GL (onSurfaceCreated); el identificador deja de ser
+ * válido cuando se pierde el contexto EGL.
+ */
+public class StaticVertexBuffer {
+
+    private final GLApi gl;
+    private final int bufferId;
+    private final int vertexCount;
+
+    public StaticVertexBuffer(GLApi gl, float[] vertices) {
+        this(gl, vertices, 3);
+    }
+
+    /**
+     * @param componentsPerVertex Floats por vértice (3 para posiciones x, y, z)
+     */
+    public StaticVertexBuffer(GLApi gl, float[] vertices, int componentsPerVertex) {
+        this(gl, vertices, componentsPerVertex, null);
+    }
+
+    /**
+     * @param staging Pool del que tomar el buffer de subida (null = buffer directo nuevo)
+     */
+    public StaticVertexBuffer(GLApi gl, float[] vertices, int componentsPerVertex, DirectBufferPool staging) {
+        this.gl = gl;
+        int[] ids = new int[1];
+        gl.glGenBuffers(1, ids, 0);
+        bufferId = ids[0];
+        vertexCount = vertices.length / componentsPerVertex;
+
+        FloatBuffer data;
+        if (staging != null) {
+            data = staging.acquire(vertices.length);
+        } else {
+            ByteBuffer bb = ByteBuffer.allocateDirect(vertices.length * 4);
+            bb.order(ByteOrder.nativeOrder());
+            data = bb.asFloatBuffer();
+        }
+        data.put(vertices);
+        data.position(0);
+
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, bufferId);
+        gl.glBufferData(GLES20.GL_ARRAY_BUFFER, vertices.length * 4, data, GLES20.GL_STATIC_DRAW);
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, 0);
+
+        // glBufferData ya copió los datos: el buffer de subida puede reutilizarse
+        if (staging != null) {
+            staging.release(data);
+        }
+    }
+
+    /**
+     * Enlaza el VBO como origen del atributo de posición (x, y, z)
+     */
+    public void bindPosition(int positionHandle) {
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, bufferId);
+        gl.glVertexAttribPointer(positionHandle, 3, GLES20.GL_FLOAT, false, 12, 0);
+    }
+
+    /**
+     * Enlaza el VBO como origen de un atributo genérico
+     *
+     * @param strideBytes Distancia entre vértices consecutivos del atributo
+     * @param offsetBytes Desplazamiento del primer componente
+     */
+    public void bindAttribute(int handle, int size, int strideBytes, int offsetBytes) {
+        bind();
+        attribute(handle, size, strideBytes, offsetBytes);
+    }
+
+    /**
+     * Enlaza el VBO sin fijar atributos (para varios atributos intercalados)
+     */
+    public void bind() {
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, bufferId);
+    }
+
+    /**
+     * Apunta un atributo al VBO ya enlazado con bind()
+     */
+    public void attribute(int handle, int size, int strideBytes, int offsetBytes) {
+        gl.glVertexAttribPointer(handle, size, GLES20.GL_FLOAT, false, strideBytes, offsetBytes);
+    }
+
+    /**
+     * Desenlaza el VBO para que los arreglos del cliente vuelvan a funcionar
+     */
+    public void unbind() {
+        gl.glBindBuffer(GLES20.GL_ARRAY_BUFFER, 0);
+    }
+
+    public int vertexCount() {
+        return vertexCount;
+    }
+}
@@ -0,0 +1,99 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * TrochoidCurve - Trocoide: el trazador está a distancia d del centro de la rueda
+ *
+ * x(θ) = aθ − d sin θ, y(θ) = a − d cos θ. Con d > a (prolata) la curva forma
+ * lazos bajo el eje; con d < a (acortada) se ondula sin tocarlo; con d = a es el
+ * cicloide (CycloidKernel). Cada arco se repite trasladado 2πa.
+ */
+public final class TrochoidCurve extends RollingCurve {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    private final double distance;
+
+    /**
+     * @param radius Radio a de la rueda (> 0)
+     * @param distance Distancia d del trazador al centro (≥ 0)
+     */
+    public TrochoidCurve(double radius, double distance) {
+        super(radius);
+        if (radius <= 0 || distance < 0) {
+            throw new IllegalArgumentException("Trocoide inválida: a = " + radius + ", d = " + distance);
+        }
+        this.distance = distance;
+    }
+
+    public double distance() {
+        return distance;
+    }
+
+    @Override
+    public double x(double theta) {
+        return radius * theta - distance * Math.sin(theta);
+    }
+
+    @Override
+    public double y(double theta) {
+        return radius - distance * Math.cos(theta);
+    }
+
+    @Override
+    public double wheelCenterX(double theta) {
+        return radius * theta;
+    }
+
+    @Override
+    public double wheelCenterY(double theta) {
+        return radius;
+    }
+
+    @Override
+    public double wheelRotation(double theta) {
+        return -theta;
+    }
+
+    @Override
+    public double period() {
+        return TWO_PI;
+    }
+
+    @Override
+    public double archShift() {
+        return TWO_PI * radius;
+    }
+
+    @Override
+    public double viewCenterX() {
+        return Math.PI * radius;
+    }
+
+    @Override
+    public double viewCenterY() {
+        return radius;
+    }
+
+    @Override
+    public double extent() {
+        return Math.max(TWO_PI * radius, 2 * distance);
+    }
+
+    @Override
+    public void evaluate(double[] thetas, int from, int count, float[] out, int offset) {
+        int index = offset;
+        for (int i = from; i < from + count; i++) {
+            double theta = thetas[i];
+            out[index++] = (float) (radius * theta - distance * Math.sin(theta));
+            out[index++] = (float) (radius - distance * Math.cos(theta));
+        }
+    }
+
+    /**
+     * |r''| = d
+     */
+    @Override
+    protected double bend(double theta) {
+        return distance;
+    }
+}
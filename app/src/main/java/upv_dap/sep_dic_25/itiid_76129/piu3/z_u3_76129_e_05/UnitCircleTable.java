@@ -0,0 +1,95 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * UnitCircleTable - cos/sin de las subdivisiones fijas del círculo unidad
+ *
+ * Cada tabla guarda cos(2πi/n) y sin(2πi/n) para i = 0..n−1. Las resoluciones
+ * que usan la rueda, el buje, los radios y la vista Canvas se calculan al
+ * cargar la clase; cualquier otra se calcula la primera vez y queda en caché.
+ * Los generadores escalan y desplazan estos valores en lugar de llamar a
+ * Math.cos/sin por vértice; un giro común se aplica con rotateCos/rotateSin.
+ */
+public final class UnitCircleTable {
+
+    // Neumático y rines (64/32/16/8), buje (24/12/8), radios a medio paso (2×16/8/4), Canvas (12)
+    private static final int[] PRECOMPUTED = {8, 12, 16, 24, 32, 64};
+
+    private static final ConcurrentHashMap<Integer, UnitCircleTable> TABLES = new ConcurrentHashMap<>();
+
+    static {
+        for (int segments : PRECOMPUTED) {
+            TABLES.put(segments, new UnitCircleTable(segments));
+        }
+    }
+
+    private final int segments;
+    private final double[] cos;
+    private final double[] sin;
+
+    private UnitCircleTable(int segments) {
+        this.segments = segments;
+        this.cos = new double[segments];
+        this.sin = new double[segments];
+        for (int i = 0; i < segments; i++) {
+            double angle = 2 * Math.PI * i / segments;
+            cos[i] = Math.cos(angle);
+            sin[i] = Math.sin(angle);
+        }
+    }
+
+    /**
+     * Tabla de n subdivisiones (compartida; no reserva memoria si ya existe)
+     */
+    public static UnitCircleTable of(int segments) {
+        if (segments <= 0) {
+            throw new IllegalArgumentException("segments debe ser positivo: " + segments);
+        }
+        UnitCircleTable table = TABLES.get(segments);
+        if (table == null) {
+            table = new UnitCircleTable(segments);
+            UnitCircleTable previous = TABLES.putIfAbsent(segments, table);
+            if (previous != null) {
+                table = previous;
+            }
+        }
+        return table;
+    }
+
+    public int segments() {
+        return segments;
+    }
+
+    /**
+     * cos(2πi/n); i se toma módulo n (admite negativos y i = n para cerrar lazos)
+     */
+    public double cos(int i) {
+        return cos[wrap(i)];
+    }
+
+    public double sin(int i) {
+        return sin[wrap(i)];
+    }
+
+    /**
+     * cos(2πi/n + φ) a partir de cos φ y sin φ ya calculados
+     */
+    public double rotateCos(int i, double cosPhi, double sinPhi) {
+        int k = wrap(i);
+        return cos[k] * cosPhi - sin[k] * sinPhi;
+    }
+
+    /**
+     * sin(2πi/n + φ) a partir de cos φ y sin φ ya calculados
+     */
+    public double rotateSin(int i, double cosPhi, double sinPhi) {
+        int k = wrap(i);
+        return sin[k] * cosPhi + cos[k] * sinPhi;
+    }
+
+    private int wrap(int i) {
+        int k = i % segments;
+        return k < 0 ? k + segments : k;
+    }
+}
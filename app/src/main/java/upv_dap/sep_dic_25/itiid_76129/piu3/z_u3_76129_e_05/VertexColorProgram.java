@@ -0,0 +1,44 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * VertexColorProgram - Variante del programa base con color por vértice
+ *
+ * Se compila con los mismos shaders del renderer precedidos de
+ * "#define VERTEX_COLOR": el color llega en el atributo aColor (intercalado
+ * con la posición) en lugar del uniforme vColor, así una malla con varios
+ * colores se dibuja en una sola llamada.
+ */
+public class VertexColorProgram extends ShaderProgram {
+
+    private static final String DEFINE = "#define VERTEX_COLOR\n";
+
+    private final int colorAttributeHandle;
+
+    public VertexColorProgram(GLApi gl, int programId) {
+        super(gl, programId);
+        this.colorAttributeHandle = gl.glGetAttribLocation(programId, "aColor");
+    }
+
+    /**
+     * Fuente del shader base con la variante activada
+     */
+    public static String variant(String source) {
+        return DEFINE + source;
+    }
+
+    @Override
+    public void bind() {
+        super.bind();
+        gl.glEnableVertexAttribArray(colorAttributeHandle);
+    }
+
+    @Override
+    public void unbind() {
+        gl.glDisableVertexAttribArray(colorAttributeHandle);
+        super.unbind();
+    }
+
+    public int colorAttributeHandle() {
+        return colorAttributeHandle;
+    }
+}
@@ -0,0 +1,93 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.view.Choreographer;
+
+/**
+ * VsyncClock - Hora de los frames alineada con los vsync del Choreographer
+ *
+ * El renderer GL dibuja en su propio hilo, que no tiene Choreographer. Esta
+ * clase recibe las marcas de vsync en el hilo de la UI y da al hilo GL la hora
+ * del último vsync ocurrido: la marca más reciente más los periodos completos
+ * transcurridos desde ella, por si el hilo GL lee antes de que la UI procese el
+ * vsync. Deja de registrarse cuando nadie lee la hora durante IDLE_VSYNCS vsyncs.
+ */
+public class VsyncClock implements Choreographer.FrameCallback, AnimationClock.TimeSource {
+
+    // Vsyncs sin lecturas tras los que se deja de escuchar (renderer en reposo)
+    private static final int IDLE_VSYNCS = 8;
+
+    private final FramePacingMonitor.FrameSource frames;
+    private final AnimationClock.TimeSource now;
+    private volatile long periodNanos;
+    private volatile long vsyncNanos = -1L;
+    private volatile long lastReadNanos;
+    // Solo en el hilo de la UI
+    private boolean running = false;
+
+    public VsyncClock(float refreshRateHz) {
+        this(FramePacingMonitor.CHOREOGRAPHER, AnimationClock.SYSTEM, refreshRateHz);
+    }
+
+    /**
+     * @param frames Origen de las marcas de vsync
+     * @param now    Hora actual, en la misma base que las marcas de vsync
+     */
+    public VsyncClock(FramePacingMonitor.FrameSource frames, AnimationClock.TimeSource now,
+                      float refreshRateHz) {
+        this.frames = frames;
+        this.now = now;
+        setRefreshRate(refreshRateHz);
+    }
+
+    public void setRefreshRate(float refreshRateHz) {
+        periodNanos = FramePacingStats.periodFromRefreshRate(refreshRateHz);
+    }
+
+    /**
+     * Empieza a escuchar vsyncs (hilo de la UI); se llama al pedir un frame
+     */
+    public void start() {
+        lastReadNanos = now.nanoTime();
+        if (running) return;
+
+        running = true;
+        frames.postFrameCallback(this);
+    }
+
+    public void stop() {
+        if (!running) return;
+
+        running = false;
+        vsyncNanos = -1L;
+        frames.removeFrameCallback(this);
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!running) return;
+
+        vsyncNanos = frameTimeNanos;
+        if (frameTimeNanos - lastReadNanos > IDLE_VSYNCS * periodNanos) {
+            // Nadie dibuja: la siguiente marca llegará tras start()
+            running = false;
+            vsyncNanos = -1L;
+            return;
+        }
+        frames.postFrameCallback(this);
+    }
+
+    /**
+     * Hora del último vsync ocurrido (cualquier hilo); la hora actual si aún no hay ninguno
+     */
+    @Override
+    public long nanoTime() {
+        long time = now.nanoTime();
+        lastReadNanos = time;
+
+        long vsync = vsyncNanos;
+        if (vsync < 0 || time < vsync) return time;
+
+        long period = periodNanos;
+        return vsync + (time - vsync) / period * period;
+    }
+}
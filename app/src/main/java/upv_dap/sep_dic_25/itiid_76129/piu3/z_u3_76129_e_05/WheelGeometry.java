@@ -0,0 +1,169 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * WheelGeometry - Geometría estática de la rueda en espacio de radio unitario
+ *
+ * Genera una sola vez los vértices (x, y, z) del neumático, rin, rin interior,
+ * buje, radios y el cuadrado del punto trazador, centrados en el origen y con
+ * radio 1, escalando las tablas de UnitCircleTable. El renderer los escala por
+ * el radio y los anima con la matriz de modelo (traslación θ·a y rotación −θ),
+ * sin regenerarlos por frame.
+ * La resolución es configurable para construir niveles de detalle (WheelLod);
+ * un rango con 0 vértices indica que ese elemento no existe en el nivel.
+ */
+public final class WheelGeometry {
+
+    // Resolución de la rueda a detalle completo
+    public static final int CIRCLE_SEGMENTS = 64;
+    public static final int HUB_SEGMENTS = 24;
+    public static final int SPOKES_PER_SIDE = 16;
+
+    // Proporciones respecto al radio
+    public static final float RIM_SCALE = 0.85f;
+    public static final float INNER_RIM_SCALE = 0.20f;
+    public static final float HUB_SCALE = 0.08f;
+    public static final float SPOKE_INNER_SCALE = 0.10f;
+    public static final float SPOKE_OUTER_SCALE = 0.83f;
+    public static final float TRACER_HALF_SIZE = 0.2f;
+
+    private static final int FLOATS_PER_VERTEX = 3;
+
+    // Resolución de esta instancia
+    public final int circleSegments;
+    public final int hubSegments;
+    public final int spokesPerSide;
+
+    // Rangos (primer vértice, número de vértices) dentro de vertices()
+    public final int tireFirst;
+    public final int tireCount;
+    public final int rimFirst;
+    public final int rimCount;
+    public final int innerRimFirst;
+    public final int innerRimCount;
+    public final int hubFirst;
+    public final int hubCount;
+    public final int spokesFirst;
+    public final int spokesCount;
+    public final int tracerFirst;
+    public final int tracerCount;
+
+    private final float[] vertices;
+    private int cursor = 0;
+
+    public WheelGeometry() {
+        this(CIRCLE_SEGMENTS, HUB_SEGMENTS, SPOKES_PER_SIDE, true);
+    }
+
+    /**
+     * @param circleSegments Segmentos del neumático y de los rines
+     * @param hubSegments    Segmentos del buje (0 = sin buje)
+     * @param spokesPerSide  Radios por cada set cruzado (0 = sin radios)
+     * @param rims           false = solo neumático (sin rin exterior ni interior)
+     */
+    public WheelGeometry(int circleSegments, int hubSegments, int spokesPerSide, boolean rims) {
+        this.circleSegments = circleSegments;
+        this.hubSegments = hubSegments;
+        this.spokesPerSide = spokesPerSide;
+
+        tireCount = circleSegments + 1;
+        rimCount = rims ? circleSegments + 1 : 0;
+        innerRimCount = rims ? circleSegments + 1 : 0;
+        hubCount = hubSegments > 0 ? hubSegments + 2 : 0;
+        spokesCount = spokesPerSide * 4;
+        tracerCount = 4;
+
+        tireFirst = 0;
+        rimFirst = tireFirst + tireCount;
+        innerRimFirst = rimFirst + rimCount;
+        hubFirst = innerRimFirst + innerRimCount;
+        spokesFirst = hubFirst + hubCount;
+        tracerFirst = spokesFirst + spokesCount;
+
+        vertices = new float[(tracerFirst + tracerCount) * FLOATS_PER_VERTEX];
+
+        addCircle(1f, circleSegments);
+        if (rims) {
+            addCircle(RIM_SCALE, circleSegments);
+            addCircle(INNER_RIM_SCALE, circleSegments);
+        }
+        if (hubSegments > 0) {
+            addHub();
+        }
+        addSpokes();
+        addTracerQuad();
+    }
+
+    /**
+     * Llamadas de dibujo necesarias (una por elemento presente)
+     */
+    public int drawCalls() {
+        int calls = 0;
+        int[] counts = {tireCount, rimCount, innerRimCount, hubCount, spokesCount, tracerCount};
+        for (int count : counts) {
+            if (count > 0) calls++;
+        }
+        return calls;
+    }
+
+    /**
+     * Vértices de toda la geometría, en el orden de los rangos públicos
+     */
+    public float[] vertices() {
+        return vertices;
+    }
+
+    public int vertexCount() {
+        return vertices.length / FLOATS_PER_VERTEX;
+    }
+
+    private void put(double x, double y) {
+        vertices[cursor++] = (float) x;
+        vertices[cursor++] = (float) y;
+        vertices[cursor++] = 0f;
+    }
+
+    private void addCircle(float scale, int segments) {
+        UnitCircleTable unit = UnitCircleTable.of(segments);
+        for (int i = 0; i <= segments; i++) {
+            put(scale * unit.cos(i), scale * unit.sin(i));
+        }
+    }
+
+    private void addHub() {
+        // Centro del buje y contorno para GL_TRIANGLE_FAN
+        UnitCircleTable unit = UnitCircleTable.of(hubSegments);
+        put(0, 0);
+        for (int i = 0; i <= hubSegments; i++) {
+            put(HUB_SCALE * unit.cos(i), HUB_SCALE * unit.sin(i));
+        }
+    }
+
+    private void addSpokes() {
+        if (spokesPerSide == 0) return;
+
+        // Patrón cruzado en θ = 0; la rotación −θ la aplica la matriz de modelo.
+        // Tabla a medio paso: el índice k equivale al ángulo (k / 2)·2π/n
+        UnitCircleTable unit = UnitCircleTable.of(2 * spokesPerSide);
+        for (int i = 0; i < spokesPerSide; i++) {
+            int inner = 2 * i;
+            int outer = 2 * i + 4;   // Cruzado 2 posiciones
+            put(SPOKE_INNER_SCALE * unit.cos(inner), SPOKE_INNER_SCALE * unit.sin(inner));
+            put(SPOKE_OUTER_SCALE * unit.cos(outer), SPOKE_OUTER_SCALE * unit.sin(outer));
+        }
+
+        // Segundo set de radios cruzados en dirección opuesta: i + 0.5 → i − 1.5
+        for (int i = 0; i < spokesPerSide; i++) {
+            int inner = 2 * i + 1;
+            int outer = 2 * i - 3;
+            put(SPOKE_INNER_SCALE * unit.cos(inner), SPOKE_INNER_SCALE * unit.sin(inner));
+            put(SPOKE_OUTER_SCALE * unit.cos(outer), SPOKE_OUTER_SCALE * unit.sin(outer));
+        }
+    }
+
+    private void addTracerQuad() {
+        put(-TRACER_HALF_SIZE, -TRACER_HALF_SIZE);
+        put(TRACER_HALF_SIZE, -TRACER_HALF_SIZE);
+        put(TRACER_HALF_SIZE, TRACER_HALF_SIZE);
+        put(-TRACER_HALF_SIZE, TRACER_HALF_SIZE);
+    }
+}
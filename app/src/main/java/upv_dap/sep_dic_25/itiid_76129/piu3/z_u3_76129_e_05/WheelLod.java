@@ -0,0 +1,110 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.util.Locale;
+
+/**
+ * WheelLod - Niveles de detalle de la rueda elegidos por su tamaño en pantalla
+ *
+ * Todos los niveles se generan una vez como WheelMesh y se concatenan en un
+ * único arreglo intercalado (un solo VBO); cada nivel se dibuja desde su
+ * vértice base. Se elige el nivel más simple cuyo polígono del neumático se
+ * aparta del círculo real menos de la tolerancia: r·(1 − cos(π/n)) ≤ tol, con r
+ * el radio en píxeles.
+ */
+public final class WheelLod {
+
+    public static final double DEFAULT_TOLERANCE_PX = 0.5;
+
+    // Del más detallado al más simple
+    private final WheelGeometry[] levels = {
+            new WheelGeometry(),                 // 64 segmentos, buje 24, 2×16 radios
+            new WheelGeometry(32, 12, 8, true),
+            new WheelGeometry(16, 8, 4, true),
+            new WheelGeometry(8, 0, 0, false)    // Solo neumático y trazador
+    };
+
+    private final WheelMesh[] meshes = new WheelMesh[levels.length];
+    private final int[] baseVertex = new int[levels.length];
+    private final float[] vertices;
+    private final double tolerancePx;
+
+    public WheelLod() {
+        this(DEFAULT_TOLERANCE_PX);
+    }
+
+    public WheelLod(double tolerancePx) {
+        this.tolerancePx = tolerancePx;
+
+        int total = 0;
+        for (int i = 0; i < levels.length; i++) {
+            meshes[i] = new WheelMesh(levels[i]);
+            baseVertex[i] = total;
+            total += meshes[i].vertexCount();
+        }
+
+        vertices = new float[total * WheelMesh.FLOATS_PER_VERTEX];
+        for (int i = 0; i < levels.length; i++) {
+            float[] level = meshes[i].vertices();
+            System.arraycopy(level, 0, vertices, baseVertex[i] * WheelMesh.FLOATS_PER_VERTEX, level.length);
+        }
+    }
+
+    /**
+     * Nivel para un radio proyectado en píxeles (0 = máximo detalle)
+     */
+    public int select(double projectedRadiusPx) {
+        for (int i = levels.length - 1; i > 0; i--) {
+            if (circleErrorPx(projectedRadiusPx, levels[i].circleSegments) <= tolerancePx) {
+                return i;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Distancia máxima entre un círculo de radio r y su polígono de n lados
+     */
+    public static double circleErrorPx(double radiusPx, int segments) {
+        return radiusPx * (1 - Math.cos(Math.PI / segments));
+    }
+
+    public int levelCount() {
+        return levels.length;
+    }
+
+    public WheelGeometry geometry(int level) {
+        return levels[level];
+    }
+
+    public WheelMesh mesh(int level) {
+        return meshes[level];
+    }
+
+    /**
+     * Desplazamiento del nivel dentro de vertices() (sumar a sus rangos)
+     */
+    public int baseVertex(int level) {
+        return baseVertex[level];
+    }
+
+    /**
+     * Vértices intercalados de todos los niveles, para subirlos juntos a un VBO
+     */
+    public float[] vertices() {
+        return vertices;
+    }
+
+    /**
+     * Tabla de llamadas de dibujo (por elemento → en lote) y vértices por nivel
+     */
+    public String describe() {
+        StringBuilder sb = new StringBuilder("LOD de la rueda:");
+        for (int i = 0; i < levels.length; i++) {
+            WheelGeometry level = levels[i];
+            sb.append(String.format(Locale.ROOT, " [%d] %d segmentos, %d → %d llamadas, %d vértices;",
+                    i, level.circleSegments, level.drawCalls(), WheelMesh.DRAW_CALLS,
+                    meshes[i].vertexCount()));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,170 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+/**
+ * WheelMesh - Rueda en lote: triángulos con color por vértice
+ *
+ * Convierte los rangos de WheelGeometry (line loops, fan y líneas) en
+ * triángulos intercalados (x, y, z, r, g, b, a) para dibujar neumático, rines,
+ * buje y radios con una sola llamada, más otra para el trazador, que usa su
+ * propia matriz. Los grosores que antes fijaba glLineWidth pasan a ser bandas
+ * en espacio de radio unitario, equivalentes a la rueda de ~240 px de radio
+ * que muestra la cámara por defecto.
+ */
+public final class WheelMesh {
+
+    public static final int FLOATS_PER_VERTEX = 7;
+    public static final int STRIDE_BYTES = FLOATS_PER_VERTEX * 4;
+    public static final int COLOR_OFFSET_BYTES = 3 * 4;
+
+    // Rueda + trazador
+    public static final int DRAW_CALLS = 2;
+
+    // Ancho de cada banda respecto al radio (antes 8, 3, 4 y 1.5 px)
+    public static final float TIRE_WIDTH = 8f / 240f;
+    public static final float RIM_WIDTH = 3f / 240f;
+    public static final float INNER_RIM_WIDTH = 4f / 240f;
+    public static final float SPOKE_WIDTH = 1.5f / 240f;
+
+    private static final float[] TIRE_COLOR = {0.15f, 0.15f, 0.15f, 1.0f};      // Negro oscuro
+    private static final float[] RIM_COLOR = {0.75f, 0.75f, 0.8f, 1.0f};        // Plateado
+    private static final float[] INNER_RIM_COLOR = {0.6f, 0.6f, 0.65f, 1.0f};   // Plateado oscuro
+    private static final float[] HUB_COLOR = {0.3f, 0.3f, 0.35f, 1.0f};         // Gris oscuro
+    private static final float[] SPOKE_COLOR = {0.7f, 0.7f, 0.75f, 0.9f};       // Plateado metálico
+    private static final float[] TRACER_COLOR = {1.0f, 0.2f, 0.2f, 1.0f};       // Rojo brillante
+
+    // Rangos (primer vértice, número de vértices) para GL_TRIANGLES
+    public final int wheelFirst;
+    public final int wheelCount;
+    public final int tracerFirst;
+    public final int tracerCount;
+
+    private final WheelGeometry geometry;
+    private final float[] source;
+    private final float[] vertices;
+    private int cursor = 0;
+
+    public WheelMesh(WheelGeometry geometry) {
+        this.geometry = geometry;
+        this.source = geometry.vertices();
+
+        int bandVertices = 6 * (segments(geometry.tireCount)
+                + segments(geometry.rimCount) + segments(geometry.innerRimCount));
+        int hubVertices = geometry.hubCount > 0 ? 3 * (geometry.hubCount - 2) : 0;
+        int spokeVertices = 6 * (geometry.spokesCount / 2);
+
+        wheelFirst = 0;
+        wheelCount = bandVertices + hubVertices + spokeVertices;
+        tracerFirst = wheelFirst + wheelCount;
+        tracerCount = 6;
+
+        vertices = new float[(tracerFirst + tracerCount) * FLOATS_PER_VERTEX];
+
+        // Mismo orden que las pasadas anteriores: lo último queda encima
+        addBand(geometry.tireFirst, geometry.tireCount, 1f, TIRE_WIDTH, TIRE_COLOR);
+        addBand(geometry.rimFirst, geometry.rimCount, WheelGeometry.RIM_SCALE, RIM_WIDTH, RIM_COLOR);
+        addBand(geometry.innerRimFirst, geometry.innerRimCount,
+                WheelGeometry.INNER_RIM_SCALE, INNER_RIM_WIDTH, INNER_RIM_COLOR);
+        addHub();
+        addSpokes();
+        addTracer();
+    }
+
+    public float[] vertices() {
+        return vertices;
+    }
+
+    public int vertexCount() {
+        return vertices.length / FLOATS_PER_VERTEX;
+    }
+
+    private static int segments(int loopCount) {
+        return loopCount > 0 ? loopCount - 1 : 0;
+    }
+
+    private float sx(int vertex) {
+        return source[vertex * 3];
+    }
+
+    private float sy(int vertex) {
+        return source[vertex * 3 + 1];
+    }
+
+    private void put(float x, float y, float[] color) {
+        vertices[cursor++] = x;
+        vertices[cursor++] = y;
+        vertices[cursor++] = 0f;
+        vertices[cursor++] = color[0];
+        vertices[cursor++] = color[1];
+        vertices[cursor++] = color[2];
+        vertices[cursor++] = color[3];
+    }
+
+    /**
+     * Anillo alrededor de un line loop de radio scale, de ancho width
+     */
+    private void addBand(int first, int count, float scale, float width, float[] color) {
+        float inner = (scale - width / 2) / scale;
+        float outer = (scale + width / 2) / scale;
+
+        for (int i = first; i < first + count - 1; i++) {
+            float x0 = sx(i), y0 = sy(i);
+            float x1 = sx(i + 1), y1 = sy(i + 1);
+
+            put(x0 * inner, y0 * inner, color);
+            put(x0 * outer, y0 * outer, color);
+            put(x1 * outer, y1 * outer, color);
+
+            put(x0 * inner, y0 * inner, color);
+            put(x1 * outer, y1 * outer, color);
+            put(x1 * inner, y1 * inner, color);
+        }
+    }
+
+    private void addHub() {
+        if (geometry.hubCount == 0) return;
+
+        // Abanico: centro + contorno → un triángulo por segmento
+        int center = geometry.hubFirst;
+        for (int i = center + 1; i < center + geometry.hubCount - 1; i++) {
+            put(sx(center), sy(center), HUB_COLOR);
+            put(sx(i), sy(i), HUB_COLOR);
+            put(sx(i + 1), sy(i + 1), HUB_COLOR);
+        }
+    }
+
+    private void addSpokes() {
+        float half = SPOKE_WIDTH / 2;
+
+        for (int i = geometry.spokesFirst; i < geometry.spokesFirst + geometry.spokesCount; i += 2) {
+            float x0 = sx(i), y0 = sy(i);
+            float x1 = sx(i + 1), y1 = sy(i + 1);
+
+            // Normal del segmento escalada a medio ancho
+            float dx = x1 - x0;
+            float dy = y1 - y0;
+            float length = (float) Math.sqrt(dx * dx + dy * dy);
+            float nx = -dy / length * half;
+            float ny = dx / length * half;
+
+            put(x0 - nx, y0 - ny, SPOKE_COLOR);
+            put(x0 + nx, y0 + ny, SPOKE_COLOR);
+            put(x1 + nx, y1 + ny, SPOKE_COLOR);
+
+            put(x0 - nx, y0 - ny, SPOKE_COLOR);
+            put(x1 + nx, y1 + ny, SPOKE_COLOR);
+            put(x1 - nx, y1 - ny, SPOKE_COLOR);
+        }
+    }
+
+    private void addTracer() {
+        // Cuadrado del trazador (antes un fan de 4 vértices) en dos triángulos
+        int q = geometry.tracerFirst;
+        put(sx(q), sy(q), TRACER_COLOR);
+        put(sx(q + 1), sy(q + 1), TRACER_COLOR);
+        put(sx(q + 2), sy(q + 2), TRACER_COLOR);
+
+        put(sx(q), sy(q), TRACER_COLOR);
+        put(sx(q + 2), sy(q + 2), TRACER_COLOR);
+        put(sx(q + 3), sy(q + 3), TRACER_COLOR);
+    }
+}
@@ -0,0 +1,125 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Teselado del cicloide por planThetas(), el camino que usa el renderer
+ */
+public class AdaptiveTessellatorTest {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    @Test
+    public void chordError_staysWithinTolerance() {
+        AdaptiveTessellator tessellator = new AdaptiveTessellator(0.25);
+        double[][] cases = {
+                // radio, píxeles por unidad
+                {50, 6.5},
+                {10_000, 0.033},
+                {10_000, 2.0},   // muy ampliado
+                {1, 0.5}         // diminuto
+        };
+        for (double[] c : cases) {
+            CycloidKernel kernel = new CycloidKernel(c[0]);
+            double pixelsPerUnit = c[1];
+            double[] thetas = planArch(tessellator, kernel, pixelsPerUnit);
+
+            double worst = maxChordErrorPx(kernel, pixelsPerUnit, thetas);
+            assertTrue("radio " + c[0] + ": " + worst + " px", worst <= 0.25 * 1.05);
+        }
+    }
+
+    @Test
+    public void vertexCount_followsProjectedSize() {
+        AdaptiveTessellator tessellator = new AdaptiveTessellator(0.25);
+        CycloidKernel kernel = new CycloidKernel(100);
+
+        int small = planArch(tessellator, kernel, 0.1).length;
+        int medium = planArch(tessellator, kernel, 3.0).length;
+        int large = planArch(tessellator, kernel, 100.0).length;
+
+        assertTrue(small < medium && medium < large);
+        // Una rueda de ~10 px de radio no necesita cientos de vértices
+        assertTrue("pequeño: " + small, small < 60);
+    }
+
+    @Test
+    public void spacing_isDenserAtCuspsThanAtArchTop() {
+        AdaptiveTessellator tessellator = new AdaptiveTessellator(0.25);
+        CycloidKernel kernel = new CycloidKernel(50);
+        double[] thetas = planArch(tessellator, kernel, 20.0);
+        float[] out = new float[thetas.length * CycloidKernel.STRIDE];
+        kernel.evaluate(thetas, 0, thetas.length, out, 0);
+
+        // Longitud de los segmentos en pantalla: cúspide frente a cima (x = πa)
+        double first = segmentLength(out, 1);
+        double top = 0;
+        for (int i = 1; i < thetas.length; i++) {
+            if (out[2 * i - 2] <= Math.PI * 50 && out[2 * i] >= Math.PI * 50) {
+                top = segmentLength(out, i);
+            }
+        }
+        assertTrue(first < top / 2);
+        // El arco termina exactamente en 2π
+        assertEquals(TWO_PI, thetas[thetas.length - 1], 0.0);
+    }
+
+    @Test
+    public void planThetas_resumesAcrossChunks() {
+        AdaptiveTessellator tessellator = new AdaptiveTessellator(0.25);
+        CycloidKernel kernel = new CycloidKernel(50);
+        double[] whole = planArch(tessellator, kernel, 20.0);
+
+        // Los mismos θ en bloques de 7, como los pide el renderer cada frame
+        double[] chunk = new double[7];
+        double theta = 0;
+        int index = 1;
+        while (theta < TWO_PI) {
+            int count = tessellator.planThetas(kernel, theta, TWO_PI, 20.0, chunk);
+            for (int i = 0; i < count; i++) {
+                assertEquals(whole[index++], chunk[i], 0.0);
+            }
+            theta = chunk[count - 1];
+        }
+        assertEquals(whole.length, index);
+    }
+
+    /**
+     * θ de un arco completo, con θ = 0 al inicio
+     */
+    private static double[] planArch(AdaptiveTessellator tessellator, CycloidKernel kernel,
+                                     double pixelsPerUnit) {
+        double[] chunk = new double[(int) Math.ceil(TWO_PI / AdaptiveTessellator.MIN_STEP) + 1];
+        int count = tessellator.planThetas(kernel, 0, TWO_PI, pixelsPerUnit, chunk);
+        double[] thetas = new double[count + 1];
+        System.arraycopy(chunk, 0, thetas, 1, count);
+        return thetas;
+    }
+
+    private static double segmentLength(float[] out, int i) {
+        return Math.hypot(out[2 * i] - out[2 * i - 2], out[2 * i + 1] - out[2 * i - 1]);
+    }
+
+    /**
+     * Flecha máxima en píxeles entre la curva y las cuerdas del teselado
+     */
+    private static double maxChordErrorPx(CycloidKernel kernel, double pixelsPerUnit, double[] thetas) {
+        double worst = 0;
+        for (int i = 1; i < thetas.length; i++) {
+            double theta = thetas[i - 1];
+            double next = thetas[i];
+            double ax = kernel.x(theta), ay = kernel.y(theta);
+            double bx = kernel.x(next), by = kernel.y(next);
+            double length = Math.hypot(bx - ax, by - ay);
+            for (int k = 1; k < 16; k++) {
+                double t = theta + (next - theta) * k / 16;
+                double px = kernel.x(t) - ax, py = kernel.y(t) - ay;
+                double distance = length == 0 ? 0 : Math.abs(px * (by - ay) - py * (bx - ax)) / length;
+                worst = Math.max(worst, distance * pixelsPerUnit);
+            }
+        }
+        return worst;
+    }
+}
@@ -0,0 +1,128 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AnimationClockTest {
+
+    /**
+     * Reloj manual: el tiempo solo avanza cuando la prueba lo indica
+     */
+    static class ManualTime implements AnimationClock.TimeSource {
+        long now = 0;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+    }
+
+    @Test
+    public void firstTick_afterReset_isZero() {
+        ManualTime time = new ManualTime();
+        AnimationClock clock = new AnimationClock(time);
+
+        time.now = 5_000_000_000L;
+        assertEquals(0.0, clock.tick(), 0.0);
+
+        time.now += 16_000_000L;
+        assertEquals(0.016, clock.tick(), 1e-9);
+
+        clock.reset();
+        time.now += 3_000_000_000L;
+        assertEquals(0.0, clock.tick(), 0.0);
+    }
+
+    @Test
+    public void longFrame_isClamped() {
+        ManualTime time = new ManualTime();
+        AnimationClock clock = new AnimationClock(time);
+        clock.tick();
+
+        time.now += 2_000_000_000L;
+
+        assertEquals(0.25, clock.tick(), 1e-9);
+    }
+
+    @Test
+    public void fixedSteps_sameTotalAt60And120Hz() {
+        double step = 1.0 / 60.0;
+        assertEquals(60, stepsInOneSecond(60, step));
+        assertEquals(60, stepsInOneSecond(120, step));
+        // Con tirones (un frame de 100 ms cada 10) se recuperan los pasos perdidos
+        assertEquals(60, stepsInOneSecondWithJank(step));
+    }
+
+    @Test
+    public void fixedSteps_excessBeyondMaxIsDropped() {
+        ManualTime time = new ManualTime();
+        AnimationClock clock = new AnimationClock(time);
+        clock.tick();
+
+        time.now += 200_000_000L;
+        clock.tick();
+
+        assertEquals(4, clock.consumeSteps(0.01, 4));
+        time.now += 5_000_000L;
+        clock.tick();
+        assertEquals(0, clock.consumeSteps(0.01, 4));
+    }
+
+    @Test
+    public void maxCatchUpSteps_coverTheLongestFrame() {
+        ManualTime time = new ManualTime();
+        AnimationClock clock = new AnimationClock(time);
+        double step = 2.0 * 0.02 / (2 * Math.PI);   // Barrido de 2 s en pasos de 0.02
+        clock.tick();
+
+        // Sobrante de casi un paso y después un tirón más largo que el delta máximo
+        time.now += (long) (step * 0.9e9);
+        clock.tick();
+        assertEquals(0, clock.consumeSteps(step, AnimationClock.maxCatchUpSteps(step)));
+        time.now += 1_000_000_000L;
+        clock.tick();
+
+        int steps = clock.consumeSteps(step, AnimationClock.maxCatchUpSteps(step));
+        assertEquals((int) Math.floor((0.25 + step * 0.9) / step), steps);
+    }
+
+    @Test
+    public void smoothingFactor_matchesPerFrameLerpAt60Hz() {
+        assertEquals(0.08f, AnimationClock.smoothingFactor(0.08f, 1.0 / 60.0), 1e-6f);
+        assertEquals(0f, AnimationClock.smoothingFactor(0.08f, 0), 0f);
+
+        // Dos frames a 120 Hz equivalen a uno a 60 Hz
+        float half = AnimationClock.smoothingFactor(0.08f, 1.0 / 120.0);
+        float remaining = (1 - half) * (1 - half);
+        assertEquals(1 - 0.08f, remaining, 1e-6f);
+    }
+
+    private static int stepsInOneSecond(int hz, double stepSeconds) {
+        ManualTime time = new ManualTime();
+        AnimationClock clock = new AnimationClock(time);
+        clock.tick();
+        int steps = 0;
+        for (int i = 1; i <= hz; i++) {
+            time.now = i * 1_000_000_000L / hz;
+            clock.tick();
+            steps += clock.consumeSteps(stepSeconds, 16);
+        }
+        return steps;
+    }
+
+    private static int stepsInOneSecondWithJank(double stepSeconds) {
+        ManualTime time = new ManualTime();
+        AnimationClock clock = new AnimationClock(time);
+        clock.tick();
+        int steps = 0;
+        while (time.now < 1_000_000_000L) {
+            boolean jank = (time.now / 10_000_000L) % 10 == 9;
+            time.now += jank ? 100_000_000L : 10_000_000L;
+            time.now = Math.min(time.now, 1_000_000_000L);
+            clock.tick();
+            steps += clock.consumeSteps(stepSeconds, 16);
+        }
+        return steps;
+    }
+}
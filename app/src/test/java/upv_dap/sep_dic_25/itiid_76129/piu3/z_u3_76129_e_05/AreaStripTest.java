@@ -0,0 +1,118 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Verifica que la tira incremental reproduce la lista de triángulos que
+ * drawArea() construía desde cero en cada frame.
+ */
+public class AreaStripTest {
+
+    private static final GrowableVertexBuffer.Allocator HEAP = new GrowableVertexBuffer.Allocator() {
+        @Override
+        public FloatBuffer allocate(int floatCapacity) {
+            return FloatBuffer.allocate(floatCapacity);
+        }
+    };
+
+    @Test
+    public void strip_matchesLegacyTriangleList() {
+        double radius = 50.0;
+        List<float[]> trail = new ArrayList<>();
+        AreaStrip strip = new AreaStrip(4, HEAP);
+
+        for (double theta = 0.02; theta < 2 * Math.PI; theta += 0.02) {
+            float x = (float) (radius * (theta - Math.sin(theta)));
+            float y = (float) (radius * (1 - Math.cos(theta)));
+            trail.add(new float[]{x, y});
+            strip.appendPoint(x, y);
+        }
+
+        float[] legacy = legacyTriangles(trail);
+        float[] expanded = expandStrip(strip);
+
+        assertEquals(legacy.length, expanded.length);
+        for (int t = 0; t < legacy.length / 9; t++) {
+            assertArrayEquals("triángulo " + t,
+                    sortedTriangle(legacy, t), sortedTriangle(expanded, t), 0f);
+        }
+    }
+
+    @Test
+    public void appendPoint_addsTwoVertices() {
+        AreaStrip strip = new AreaStrip(1, HEAP);
+
+        strip.appendPoint(3f, 4f);
+        strip.appendPoint(5f, 6f);
+
+        assertEquals(2, strip.pointCount());
+        assertEquals(4, strip.vertexCount());
+        FloatBuffer data = strip.buffer();
+        assertEquals(3f, data.get(0), 0f);
+        assertEquals(4f, data.get(1), 0f);
+        assertEquals(3f, data.get(3), 0f);
+        assertEquals(0f, data.get(4), 0f);
+    }
+
+    /**
+     * Lista de triángulos tal como la generaba el antiguo drawArea()
+     */
+    private static float[] legacyTriangles(List<float[]> trail) {
+        List<Float> vertices = new ArrayList<>();
+        for (int i = 0; i < trail.size() - 1; i++) {
+            float[] p1 = trail.get(i);
+            float[] p2 = trail.get(i + 1);
+            float[][] tris = {
+                    {p1[0], 0f}, {p1[0], p1[1]}, {p2[0], p2[1]},
+                    {p1[0], 0f}, {p2[0], p2[1]}, {p2[0], 0f}
+            };
+            for (float[] v : tris) {
+                vertices.add(v[0]);
+                vertices.add(v[1]);
+                vertices.add(0f);
+            }
+        }
+        float[] out = new float[vertices.size()];
+        for (int i = 0; i < out.length; i++) {
+            out[i] = vertices.get(i);
+        }
+        return out;
+    }
+
+    /**
+     * Expande la tira a triángulos independientes como lo haría GL_TRIANGLE_STRIP
+     */
+    private static float[] expandStrip(AreaStrip strip) {
+        FloatBuffer data = strip.buffer();
+        int n = strip.vertexCount();
+        float[] out = new float[(n - 2) * 9];
+        for (int t = 0; t < n - 2; t++) {
+            for (int k = 0; k < 3; k++) {
+                for (int c = 0; c < 3; c++) {
+                    out[t * 9 + k * 3 + c] = data.get((t + k) * 3 + c);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * Vértices de un triángulo en orden canónico (el sentido de giro no importa)
+     */
+    private static float[] sortedTriangle(float[] triangles, int index) {
+        float[][] v = new float[3][];
+        for (int k = 0; k < 3; k++) {
+            int base = index * 9 + k * 3;
+            v[k] = new float[]{triangles[base], triangles[base + 1], triangles[base + 2]};
+        }
+        Arrays.sort(v, (a, b) -> a[0] != b[0] ? Float.compare(a[0], b[0]) : Float.compare(a[1], b[1]));
+        return new float[]{v[0][0], v[0][1], v[1][0], v[1][1], v[2][0], v[2][1]};
+    }
+}
@@ -0,0 +1,303 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.opengl.GLES20;
+import android.opengl.GLES30;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * GLApi falsa para pruebas de JVM: no dibuja nada y cuenta cada llamada por nombre
+ */
+public class CountingGL implements GLApi {
+
+    // Comportamiento configurable del "driver"
+    public String version = "OpenGL ES 2.0";
+    public int compileStatus = GLES20.GL_TRUE;
+    public int linkStatus = GLES20.GL_TRUE;
+    public int binaryFormats = 0;
+    public String infoLog = "";
+    public String extensions = "";
+    public int queryNanos = 0;
+
+    // Contador mutable por método: tras la primera llamada no se reserva memoria
+    private final Map<String, int[]> calls = new HashMap<>();
+    private int nextId = 1;
+
+    public int count(String method) {
+        int[] value = calls.get(method);
+        return value == null ? 0 : value[0];
+    }
+
+    public void reset() {
+        for (int[] value : calls.values()) {
+            value[0] = 0;
+        }
+    }
+
+    protected void record(String method) {
+        int[] value = calls.get(method);
+        if (value == null) {
+            value = new int[1];
+            calls.put(method, value);
+        }
+        value[0]++;
+    }
+
+    @Override
+    public void glClearColor(float red, float green, float blue, float alpha) {
+        record("glClearColor");
+    }
+
+    @Override
+    public void glClear(int mask) {
+        record("glClear");
+    }
+
+    @Override
+    public void glEnable(int cap) {
+        record("glEnable");
+    }
+
+    @Override
+    public void glDepthFunc(int func) {
+        record("glDepthFunc");
+    }
+
+    @Override
+    public void glBlendFunc(int sfactor, int dfactor) {
+        record("glBlendFunc");
+    }
+
+    @Override
+    public void glViewport(int x, int y, int width, int height) {
+        record("glViewport");
+    }
+
+    @Override
+    public void glLineWidth(float width) {
+        record("glLineWidth");
+    }
+
+    @Override
+    public String glGetString(int name) {
+        record("glGetString");
+        if (name == GLES20.GL_EXTENSIONS) return extensions;
+        return name == GLES20.GL_VERSION ? version : "FakeRenderer";
+    }
+
+    @Override
+    public void glGetIntegerv(int pname, int[] params, int offset) {
+        record("glGetIntegerv");
+        params[offset] = pname == GLES30.GL_NUM_PROGRAM_BINARY_FORMATS ? binaryFormats : 0;
+    }
+
+    @Override
+    public int glCreateShader(int type) {
+        record("glCreateShader");
+        return nextId++;
+    }
+
+    @Override
+    public void glShaderSource(int shader, String source) {
+        record("glShaderSource");
+    }
+
+    @Override
+    public void glCompileShader(int shader) {
+        record("glCompileShader");
+    }
+
+    @Override
+    public void glGetShaderiv(int shader, int pname, int[] params, int offset) {
+        record("glGetShaderiv");
+        params[offset] = pname == GLES20.GL_COMPILE_STATUS ? compileStatus : 0;
+    }
+
+    @Override
+    public String glGetShaderInfoLog(int shader) {
+        record("glGetShaderInfoLog");
+        return infoLog;
+    }
+
+    @Override
+    public void glDeleteShader(int shader) {
+        record("glDeleteShader");
+    }
+
+    @Override
+    public int glCreateProgram() {
+        record("glCreateProgram");
+        return nextId++;
+    }
+
+    @Override
+    public void glAttachShader(int program, int shader) {
+        record("glAttachShader");
+    }
+
+    @Override
+    public void glLinkProgram(int program) {
+        record("glLinkProgram");
+    }
+
+    @Override
+    public void glGetProgramiv(int program, int pname, int[] params, int offset) {
+        record("glGetProgramiv");
+        if (pname == GLES20.GL_LINK_STATUS) {
+            params[offset] = linkStatus;
+        } else if (pname == GLES30.GL_PROGRAM_BINARY_LENGTH) {
+            params[offset] = 4;
+        } else {
+            params[offset] = 0;
+        }
+    }
+
+    @Override
+    public String glGetProgramInfoLog(int program) {
+        record("glGetProgramInfoLog");
+        return infoLog;
+    }
+
+    @Override
+    public void glDeleteProgram(int program) {
+        record("glDeleteProgram");
+    }
+
+    @Override
+    public void glProgramParameteri(int program, int pname, int value) {
+        record("glProgramParameteri");
+    }
+
+    @Override
+    public void glGetProgramBinary(int program, int bufSize, int[] length, int lengthOffset,
+                                   int[] binaryFormat, int binaryFormatOffset, Buffer binary) {
+        record("glGetProgramBinary");
+        ((ByteBuffer) binary).put(new byte[]{1, 2, 3, 4});
+        length[lengthOffset] = 4;
+        binaryFormat[binaryFormatOffset] = 42;
+    }
+
+    @Override
+    public void glProgramBinary(int program, int binaryFormat, Buffer binary, int length) {
+        record("glProgramBinary");
+    }
+
+    @Override
+    public void glUseProgram(int program) {
+        record("glUseProgram");
+    }
+
+    @Override
+    public int glGetAttribLocation(int program, String name) {
+        record("glGetAttribLocation");
+        return 0;
+    }
+
+    @Override
+    public int glGetUniformLocation(int program, String name) {
+        record("glGetUniformLocation");
+        return 1;
+    }
+
+    @Override
+    public void glGenQueries(int n, int[] ids, int offset) {
+        record("glGenQueries");
+        for (int i = 0; i < n; i++) {
+            ids[offset + i] = nextId++;
+        }
+    }
+
+    @Override
+    public void glBeginQuery(int target, int id) {
+        record("glBeginQuery");
+    }
+
+    @Override
+    public void glEndQuery(int target) {
+        record("glEndQuery");
+    }
+
+    @Override
+    public void glGetQueryObjectuiv(int id, int pname, int[] params, int offset) {
+        record("glGetQueryObjectuiv");
+        // Resultado siempre disponible
+        params[offset] = pname == GLES30.GL_QUERY_RESULT ? queryNanos : 1;
+    }
+
+    @Override
+    public void glUniform1f(int location, float x) {
+        record("glUniform1f");
+    }
+
+    @Override
+    public void glUniform4f(int location, float x, float y, float z, float w) {
+        record("glUniform4f");
+    }
+
+    @Override
+    public void glUniformMatrix4fv(int location, int count, boolean transpose, float[] value, int offset) {
+        record("glUniformMatrix4fv");
+    }
+
+    @Override
+    public void glVertexAttrib4f(int index, float x, float y, float z, float w) {
+        record("glVertexAttrib4f");
+    }
+
+    @Override
+    public void glEnableVertexAttribArray(int index) {
+        record("glEnableVertexAttribArray");
+    }
+
+    @Override
+    public void glDisableVertexAttribArray(int index) {
+        record("glDisableVertexAttribArray");
+    }
+
+    @Override
+    public void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, Buffer ptr) {
+        record("glVertexAttribPointer");
+        // Arreglo del cliente: el driver copia los vértices en cada dibujo
+        record("clientArray");
+    }
+
+    @Override
+    public void glVertexAttribPointer(int index, int size, int type, boolean normalized, int stride, int offset) {
+        record("glVertexAttribPointer");
+    }
+
+    @Override
+    public void glGenBuffers(int n, int[] buffers, int offset) {
+        record("glGenBuffers");
+        for (int i = 0; i < n; i++) {
+            buffers[offset + i] = nextId++;
+        }
+    }
+
+    @Override
+    public void glBindBuffer(int target, int buffer) {
+        record("glBindBuffer");
+    }
+
+    @Override
+    public void glBufferData(int target, int size, Buffer data, int usage) {
+        record("glBufferData");
+    }
+
+    @Override
+    public void glDrawArrays(int mode, int first, int count) {
+        record("glDrawArrays");
+    }
+
+    @Override
+    public void glVertexAttribDivisor(int index, int divisor) {
+        record("glVertexAttribDivisor");
+    }
+
+    @Override
+    public void glDrawArraysInstanced(int mode, int first, int count, int instanceCount) {
+        record("glDrawArraysInstanced");
+    }
+}
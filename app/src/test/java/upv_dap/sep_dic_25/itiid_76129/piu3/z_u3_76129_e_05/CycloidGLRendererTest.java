@@ -0,0 +1,610 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.opengl.GLES20;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del renderer sobre una GLApi falsa que cuenta llamadas
+ */
+public class CycloidGLRendererTest {
+
+    private static final long FRAME_60HZ = 1_000_000_000L / 60;
+
+    private CountingGL gl;
+    private SteppingTime time;
+    private CycloidGLRenderer renderer;
+
+    /**
+     * Tiempo simulado: cada lectura avanza un frame
+     */
+    private static class SteppingTime implements AnimationClock.TimeSource {
+        long now = 0;
+        long frameNanos = FRAME_60HZ;
+
+        @Override
+        public long nanoTime() {
+            now += frameNanos;
+            return now;
+        }
+    }
+
+    @Before
+    public void setUp() {
+        gl = new CountingGL();
+        time = new SteppingTime();
+        renderer = new CycloidGLRenderer(gl, null, new AnimationClock(time));
+        renderer.onSurfaceCreated(null, null);
+        renderer.onSurfaceChanged(null, 1080, 1920);
+    }
+
+    @Test
+    public void surfaceCreation_resolvesLocationsOnce() {
+        // Programa de posiciones, paramétrico (modo GPU), rueda en lote y escena
+        assertEquals(7, gl.count("glGetAttribLocation"));
+        assertEquals(10, gl.count("glGetUniformLocation"));
+    }
+
+    @Test
+    public void frame_bindsEachProgramOnceAndNeverLooksUpLocations() {
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 10; i++) {
+            renderer.onDrawFrame(null);
+        }
+        gl.reset();
+
+        renderer.onDrawFrame(null);
+
+        // Escena y rueda en lote (posición + color)
+        assertEquals(2, gl.count("glUseProgram"));
+        assertEquals(0, gl.count("glGetAttribLocation"));
+        assertEquals(0, gl.count("glGetUniformLocation"));
+        assertEquals(3, gl.count("glEnableVertexAttribArray"));
+        // Vista-proyección, rueda y trazador
+        assertEquals(3, gl.count("glUniformMatrix4fv"));
+    }
+
+    @Test
+    public void idleFrame_uploadsOnlyViewProjection() {
+        gl.reset();
+
+        renderer.onDrawFrame(null);
+
+        assertEquals(1, gl.count("glUseProgram"));
+        assertEquals(1, gl.count("glUniformMatrix4fv"));
+        // Solo el eje: sin trazo ni rueda antes de iniciar la animación
+        assertEquals(1, gl.count("glDrawArrays"));
+    }
+
+    @Test
+    public void onDemandRendering_stopsOnceSweepAndGlowFinish() {
+        final int[] requests = {0};
+        RenderScheduler scheduler = new RenderScheduler(new RenderScheduler.RenderRequester() {
+            @Override
+            public void requestRender() {
+                requests[0]++;
+            }
+        }, 0);
+        renderer.setRenderScheduler(scheduler);
+        renderer.startAnimation(50.0);
+
+        // Dibujar mientras el renderer siga pidiendo frames
+        int frames = 0;
+        int lastRequests = -1;
+        while (requests[0] != lastRequests && frames < 10_000) {
+            lastRequests = requests[0];
+            renderer.onDrawFrame(null);
+            frames++;
+        }
+
+        assertTrue("el renderer nunca dejó de pedir frames", frames < 10_000);
+        // Barrido (~315 frames) más el destello del área
+        assertTrue(frames > 315);
+        assertTrue(scheduler.isIdle());
+    }
+
+    @Test
+    public void sweep_takesSameTimeAndPointsAt60And120Hz() {
+        long at60 = sweepNanos(FRAME_60HZ);
+        int points60 = renderer.trailPointCount();
+        long at120 = sweepNanos(FRAME_60HZ / 2);
+        int points120 = renderer.trailPointCount();
+
+        // Diferencia máxima: la granularidad de unos pocos frames a 60 Hz
+        assertEquals(at60 / 1e9, at120 / 1e9, 0.05);
+        assertEquals(points60, points120);
+    }
+
+    @Test
+    public void sweepDuration_isConfigurable() {
+        renderer.setSweepDuration(2.0);
+
+        assertEquals(2.0, sweepNanos(FRAME_60HZ) / 1e9, 0.05);
+    }
+
+    @Test
+    public void fixedStep_shortSweepCatchesUpAfterLongFrame() {
+        renderer.setSweepDuration(2.0);
+        renderer.startAnimation(50.0);
+        renderer.onDrawFrame(null);
+        renderer.onDrawFrame(null);
+        double before = renderer.currentTheta();
+
+        // Un tirón de 0.25 s (el delta máximo del reloj) son ~39 pasos de 0.02
+        time.frameNanos = 250_000_000L;
+        renderer.onDrawFrame(null);
+
+        assertEquals(0.25 / 2.0 * 2 * Math.PI, renderer.currentTheta() - before, 0.02);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void sweepDuration_mustBePositive() {
+        renderer.setSweepDuration(0.0);
+    }
+
+    private long sweepNanos(long frameNanos) {
+        time.frameNanos = frameNanos;
+        renderer.startAnimation(50.0);
+        renderer.onDrawFrame(null);
+        long start = time.now;
+        while (!renderer.isAnimationComplete()) {
+            renderer.onDrawFrame(null);
+        }
+        return time.now - start;
+    }
+
+    @Test
+    public void uiThreadCommands_duringRendering_areSafe() throws InterruptedException {
+        final AtomicReference<Throwable> uiFailure = new AtomicReference<>();
+        final AtomicBoolean done = new AtomicBoolean(false);
+
+        // Hilo "UI": reinicia, pausa, reanuda y rota sin parar
+        Thread ui = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    for (int i = 0; !done.get(); i++) {
+                        switch (i % 4) {
+                            case 0: renderer.startAnimation(10 + i % 90); break;
+                            case 1: renderer.pauseAnimation(); break;
+                            case 2: renderer.resumeAnimation(); break;
+                            default: renderer.rotateCamera(0.25f, -0.5f); break;
+                        }
+                    }
+                } catch (Throwable t) {
+                    uiFailure.set(t);
+                }
+            }
+        });
+        ui.start();
+
+        try {
+            for (int frame = 0; frame < 5_000; frame++) {
+                renderer.onDrawFrame(null);
+            }
+        } finally {
+            done.set(true);
+            ui.join();
+        }
+
+        assertNull(uiFailure.get());
+    }
+
+    @Test
+    public void wheelPass_bindsStaticBufferOnce() {
+        renderer.startAnimation(50.0);
+        renderer.onDrawFrame(null);
+        gl.reset();
+
+        renderer.onDrawFrame(null);
+
+        // Enlace y desenlace del eje y de la rueda; el trazo y el área usan arrays del cliente
+        assertEquals(4, gl.count("glBindBuffer"));
+        assertEquals(0, gl.count("glBufferData"));
+    }
+
+    @Test
+    public void sweepFrames_doNotAllocate() {
+        renderer.startAnimation(50.0);
+        // Calentar: caché de llamadas de la GLApi falsa y primeros pasos
+        for (int i = 0; i < 50; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        long allocated = allocatedDuring(60);
+
+        assertFalse(renderer.isAnimationComplete());
+        assertTrue("bytes reservados durante el barrido: " + allocated, allocated < 60);
+    }
+
+    @Test
+    public void completedWheelFrames_doNotAllocate() {
+        renderer.startAnimation(50.0);
+        while (!renderer.isAnimationComplete()) {
+            renderer.onDrawFrame(null);
+        }
+        for (int i = 0; i < 200; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        long allocated = allocatedDuring(500);
+        assertTrue("bytes reservados con la rueda detenida: " + allocated, allocated < 500);
+    }
+
+    /**
+     * Bytes reservados por este hilo al dibujar frames, el mínimo de varias rondas
+     *
+     * La JVM reserva de vez en cuando unos bytes propios (compilación, medición);
+     * una reserva real por frame supera frames × 16 bytes en todas las rondas,
+     * así que basta comprobar que el mínimo queda por debajo de 1 byte por frame.
+     */
+    private long allocatedDuring(int frames) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long start = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < frames; i++) {
+                renderer.onDrawFrame(null);
+            }
+            best = Math.min(best, threads.getThreadAllocatedBytes(threadId) - start);
+        }
+        return best;
+    }
+
+    @Test
+    public void gpuEvaluation_noVertexUploadsDuringSweepOrRadiusChange() {
+        renderer.setGpuEvaluation(true);
+        renderer.startAnimation(50.0);
+        renderer.onDrawFrame(null);
+        gl.reset();
+
+        for (int i = 0; i < 100; i++) {
+            renderer.onDrawFrame(null);
+        }
+        renderer.startAnimation(9_000.0);
+        for (int i = 0; i < 100; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        assertEquals(0, gl.count("glBufferData"));
+        assertEquals(0, gl.count("clientArray"));
+        assertEquals(0, renderer.trailPointCount());
+        // Por frame solo cambian dos uniformes: radio y θmax
+        assertTrue(gl.count("glUniform1f") > 0);
+        assertEquals(0, gl.count("glUniform1f") % 2);
+    }
+
+    @Test
+    public void gpuEvaluation_switchingBackRebuildsCpuTrail() {
+        renderer.setGpuEvaluation(true);
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 100; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        renderer.setGpuEvaluation(false);
+        renderer.onDrawFrame(null);
+
+        // Trazo adaptativo desde θ = 0 hasta el θ actual
+        assertTrue(renderer.trailPointCount() >= 3);
+    }
+
+    @Test
+    public void adaptiveTrail_usesFewerVerticesThanFixedStep() {
+        renderer.startAnimation(50.0);
+        while (!renderer.isAnimationComplete()) {
+            renderer.onDrawFrame(null);
+        }
+
+        // El paso fijo de 0.02 daba ~315 puntos por barrido
+        int points = renderer.trailPointCount();
+        assertTrue("puntos: " + points, points > 20 && points < 315);
+    }
+
+    @Test
+    public void adaptiveTrail_zoomingInRetessellates() {
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 200; i++) {
+            renderer.onDrawFrame(null);
+        }
+        int before = renderer.trailPointCount();
+
+        renderer.setCameraDistance(200f);
+        renderer.onDrawFrame(null);
+        renderer.onDrawFrame(null);
+
+        assertTrue(renderer.trailPointCount() > before);
+    }
+
+    @Test
+    public void adaptiveTrail_zoomingInAfterSweepRetessellates() {
+        renderer.startAnimation(50.0);
+        while (!renderer.isAnimationComplete()) {
+            renderer.onDrawFrame(null);
+        }
+        int before = renderer.trailPointCount();
+
+        renderer.setCameraDistance(200f);
+        renderer.onDrawFrame(null);
+
+        assertTrue(renderer.trailPointCount() > before);
+        // El trazo sigue llegando al final del arco
+        assertEquals(2 * Math.PI, renderer.currentTheta(), 0.0);
+    }
+
+    @Test
+    public void wheelLod_zoomingOutSelectsCoarserMesh() {
+        renderer.startAnimation(50.0);
+        renderer.onDrawFrame(null);
+        assertEquals(0, renderer.wheelLodLevel());
+
+        renderer.setCameraDistanceImmediate(50000f);
+        renderer.onDrawFrame(null);
+
+        assertTrue(renderer.wheelLodLevel() > 0);
+    }
+
+    @Test
+    public void wheelPass_drawsWheelAndTracerInTwoCalls() {
+        final int[] triangleDraws = {0};
+        gl = new CountingGL() {
+            @Override
+            public void glDrawArrays(int mode, int first, int count) {
+                super.glDrawArrays(mode, first, count);
+                // Solo la rueda en lote usa GL_TRIANGLES
+                if (mode == GLES20.GL_TRIANGLES) triangleDraws[0]++;
+            }
+        };
+        renderer = new CycloidGLRenderer(gl, null, new AnimationClock(time));
+        renderer.onSurfaceCreated(null, null);
+        renderer.onSurfaceChanged(null, 1080, 1920);
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 10; i++) {
+            renderer.onDrawFrame(null);
+        }
+        gl.reset();
+        triangleDraws[0] = 0;
+
+        renderer.onDrawFrame(null);
+
+        assertEquals(2, triangleDraws[0]);
+        // Solo el eje y el trazo fijan grosor de línea; la rueda no
+        assertEquals(2, gl.count("glLineWidth"));
+        assertEquals(renderer.drawCallsLastFrame(), gl.count("glDrawArrays"));
+    }
+
+    /**
+     * Renderer sobre un contexto de la versión dada con una escena de count instancias
+     */
+    private void setUpScene(String version, int count) {
+        gl = new CountingGL();
+        gl.version = version;
+        renderer = new CycloidGLRenderer(gl, null, new AnimationClock(time));
+        renderer.onSurfaceCreated(null, null);
+        renderer.onSurfaceChanged(null, 1080, 1920);
+        renderer.setScene(CycloidScene.comparison(count, 10.0, 100.0));
+        for (int i = 0; i < 10; i++) {
+            renderer.onDrawFrame(null);
+        }
+        gl.reset();
+    }
+
+    @Test
+    public void instancedScene_drawsAnyInstanceCountInOneCall() {
+        for (int count : new int[]{10, 1000}) {
+            setUpScene("OpenGL ES 3.0", count);
+            assertTrue(renderer.isInstancedDrawing());
+
+            renderer.onDrawFrame(null);
+
+            assertEquals(1, gl.count("glDrawArraysInstanced"));
+            assertEquals(1, gl.count("glDrawArrays"));   // Eje
+            assertEquals(1, gl.count("glBufferData"));   // Progreso de las instancias
+            assertEquals(2, gl.count("glUseProgram"));
+        }
+    }
+
+    @Test
+    public void instancedScene_stopsUploadingWhenComplete() {
+        setUpScene("OpenGL ES 3.0", 100);
+        for (int i = 0; i < 400; i++) {
+            renderer.onDrawFrame(null);
+        }
+        renderer.onDrawFrame(null);
+        gl.reset();
+
+        renderer.onDrawFrame(null);
+
+        assertEquals(1, gl.count("glDrawArraysInstanced"));
+        assertEquals(0, gl.count("glBufferData"));
+    }
+
+    @Test
+    public void uniformScene_drawsOncePerInstanceWithMeshBoundOnce() {
+        setUpScene("OpenGL ES 2.0", 50);
+        assertFalse(renderer.isInstancedDrawing());
+
+        renderer.onDrawFrame(null);
+
+        assertEquals(0, gl.count("glDrawArraysInstanced"));
+        assertEquals(1 + 50, gl.count("glDrawArrays"));
+        assertEquals(2 * 50, gl.count("glVertexAttrib4f"));
+        assertEquals(2, gl.count("glUseProgram"));
+        assertEquals(0, gl.count("glVertexAttribDivisor"));
+    }
+
+    @Test
+    public void streaming_tracesRequestedArchesThenCompletes() {
+        renderer.setStreaming(3, 2);
+        renderer.startAnimation(50.0);
+
+        for (int i = 0; i < 1200 && !renderer.isAnimationComplete(); i++) {
+            renderer.onDrawFrame(null);
+            assertTrue(renderer.currentTheta() <= 2 * Math.PI);
+        }
+
+        assertTrue(renderer.isAnimationComplete());
+        assertEquals(2, renderer.completedArches());
+    }
+
+    @Test
+    public void streaming_drawsKeptPastArchesFromOneTemplate() {
+        renderer.setStreaming(CycloidGLRenderer.UNLIMITED_ARCHES, 0);
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 700; i++) {
+            renderer.onDrawFrame(null);
+        }
+        int alone = renderer.drawCallsLastFrame();
+        int capacity = renderer.trailVertexCapacity();
+
+        renderer.setStreaming(CycloidGLRenderer.UNLIMITED_ARCHES, 2);
+        renderer.onDrawFrame(null);
+
+        // Área y trazo de cada arco anterior, sin memoria nueva
+        assertTrue(renderer.completedArches() >= 2);
+        assertEquals(alone + 2 * 2, renderer.drawCallsLastFrame());
+        assertEquals(capacity, renderer.trailVertexCapacity());
+    }
+
+    @Test
+    public void surfaceRecreationAndRepeatedSweeps_reusePooledBuffers() {
+        DirectBufferPool pool = renderer.bufferPool();
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 400; i++) {
+            renderer.onDrawFrame(null);
+        }
+        long allocated = pool.allocatedBytes();
+        assertTrue(pool.highWaterBytes() > 0);
+
+        // Contexto perdido y otro barrido completo: ni subidas ni crecimiento reservan
+        renderer.onSurfaceCreated(null, null);
+        renderer.onSurfaceChanged(null, 1080, 1920);
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 400; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        assertEquals(allocated, pool.allocatedBytes());
+    }
+
+    @Test
+    public void profiling_isOffByDefaultAndRecordsStagesWhenEnabled() {
+        renderer.startAnimation(50.0);
+        renderer.onDrawFrame(null);
+        assertFalse(renderer.profilerSummary().contains("frame"));
+
+        renderer.setProfilingEnabled(true);
+        for (int i = 0; i < 10; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        String summary = renderer.profilerSummary();
+        assertTrue(summary.contains("frame"));
+        assertTrue(summary.contains("rueda"));
+        assertTrue(summary.contains("teselado"));
+        // Sin la extensión no se crean consultas de GPU
+        assertEquals(0, gl.count("glBeginQuery"));
+    }
+
+    @Test
+    public void profiledFrames_doNotAllocate() {
+        renderer.setProfilingEnabled(true);
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 50; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        long allocated = allocatedDuring(60);
+
+        assertTrue("bytes: " + allocated, allocated < 60);
+    }
+
+    @Test
+    public void rouletteCurve_usesCpuTrailInGpuModeAndCompletesWhenClosed() {
+        // R/a = 3/2: la epicicloide se cierra tras dos vueltas (θ = 4π)
+        renderer.setGpuEvaluation(true);
+        renderer.setStreaming(CycloidGLRenderer.UNLIMITED_ARCHES, 2);
+        renderer.startAnimation(RouletteCurve.epicycloid(75.0, 50.0));
+
+        for (int i = 0; i < 2000 && !renderer.isAnimationComplete(); i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        assertTrue(renderer.isAnimationComplete());
+        assertEquals(4 * Math.PI, renderer.currentTheta(), 1e-12);
+        // Curva cerrada: sin modo continuo; el trazo se teseló en la CPU
+        assertEquals(0, renderer.completedArches());
+        assertTrue(renderer.trailPointCount() > 100);
+    }
+
+    @Test
+    public void trochoidSweep_doesNotAllocate() {
+        renderer.startAnimation(new TrochoidCurve(50.0, 80.0));
+        for (int i = 0; i < 20; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        long allocated = allocatedDuring(60);
+
+        assertFalse(renderer.isAnimationComplete());
+        assertTrue("bytes reservados durante el barrido: " + allocated, allocated < 60);
+    }
+
+    @Test
+    public void framePacing_spreadsSweepFramesAcrossBands() {
+        renderer.startAnimation(50.0);
+        while (!renderer.isAnimationComplete()) {
+            renderer.onDrawFrame(null);
+        }
+
+        // El barrido dura ~315 frames: unos 39 por banda, sea cual sea el teselado
+        FramePacingStats stats = renderer.framePacing();
+        for (int band = 0; band < FramePacingStats.SWEEP_BANDS; band++) {
+            int frames = stats.framesInBand(band);
+            assertTrue("banda " + band + ": " + frames, frames > 20 && frames < 60);
+        }
+    }
+
+    @Test
+    public void framePacing_usesTheClockTimeSource() {
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 11; i++) {
+            renderer.onDrawFrame(null);
+        }
+        assertEquals(0, renderer.framePacing().jankyFrameCount());
+
+        // Tiempo sintético: un frame tarda tres periodos (dos vsync perdidos)
+        time.frameNanos = 3 * FRAME_60HZ;
+        renderer.onDrawFrame(null);
+        time.frameNanos = FRAME_60HZ;
+        renderer.onDrawFrame(null);
+
+        assertEquals(1, renderer.framePacing().jankyFrameCount());
+        assertEquals(2, renderer.framePacing().missedVsyncCount());
+    }
+
+    @Test
+    public void framePacing_countsOnlyContinuousFrames() {
+        // En reposo los frames están separados por huecos que no son jank
+        renderer.onDrawFrame(null);
+        renderer.onDrawFrame(null);
+        assertEquals(0, renderer.framePacing().frameCount());
+
+        renderer.startAnimation(50.0);
+        for (int i = 0; i < 11; i++) {
+            renderer.onDrawFrame(null);
+        }
+
+        // El primer frame de la animación sigue a un frame en reposo
+        assertEquals(10, renderer.framePacing().frameCount());
+    }
+}
@@ -0,0 +1,76 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CycloidKernelTest {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    @Test
+    public void position_matchesRollingWheelTracer() {
+        double a = 37.5;
+        CycloidKernel kernel = new CycloidKernel(a);
+        for (double theta = 0; theta <= TWO_PI; theta += 0.1) {
+            // Forma usada antes en los renderers: centro (aθ, a) girado −θ
+            double x = theta * a + a * Math.sin(-theta);
+            double y = a - a * Math.cos(-theta);
+            assertEquals(x, kernel.x(theta), 1e-9);
+            assertEquals(y, kernel.y(theta), 1e-9);
+        }
+    }
+
+    @Test
+    public void velocity_matchesFiniteDifference() {
+        CycloidKernel kernel = new CycloidKernel(2.0);
+        double h = 1e-6;
+        for (double theta = 0.05; theta < TWO_PI; theta += 0.3) {
+            double dx = (kernel.x(theta + h) - kernel.x(theta - h)) / (2 * h);
+            double dy = (kernel.y(theta + h) - kernel.y(theta - h)) / (2 * h);
+            assertEquals(dx, kernel.velocityX(theta), 1e-6);
+            assertEquals(dy, kernel.velocityY(theta), 1e-6);
+        }
+    }
+
+    @Test
+    public void arcLengthAndArea_matchClosedFormsAndIntegration() {
+        double a = 3.0;
+        CycloidKernel kernel = new CycloidKernel(a);
+
+        // Un arco completo: longitud 8a, área 3πa²
+        assertEquals(8 * a, kernel.arcLength(TWO_PI), 1e-9);
+        assertEquals(3 * Math.PI * a * a, kernel.area(TWO_PI), 1e-9);
+        assertEquals(16 * a, kernel.arcLength(2 * TWO_PI), 1e-9);
+
+        // Integración numérica hasta θ = 2
+        int n = 100_000;
+        double theta = 2.0;
+        double h = theta / n;
+        double length = 0;
+        double area = 0;
+        for (int i = 0; i < n; i++) {
+            double t = (i + 0.5) * h;
+            double vx = kernel.velocityX(t);
+            double vy = kernel.velocityY(t);
+            length += Math.sqrt(vx * vx + vy * vy) * h;
+            area += kernel.y(t) * vx * h;
+        }
+        assertEquals(length, kernel.arcLength(theta), 1e-6);
+        assertEquals(area, kernel.area(theta), 1e-6);
+    }
+
+    @Test
+    public void batchEvaluate_matchesPointwiseAtOffset() {
+        CycloidKernel kernel = new CycloidKernel(1.0);
+        double[] thetas = {0.1, Math.PI, Math.PI + 0.5, Math.PI + 1.0};
+        float[] out = new float[8];
+        out[0] = -1f;
+
+        kernel.evaluate(thetas, 1, 3, out, 2);
+
+        assertEquals(-1f, out[0], 0f);
+        assertEquals((float) kernel.x(Math.PI), out[2], 1e-6f);
+        assertEquals((float) kernel.y(Math.PI + 1.0), out[7], 1e-6f);
+    }
+}
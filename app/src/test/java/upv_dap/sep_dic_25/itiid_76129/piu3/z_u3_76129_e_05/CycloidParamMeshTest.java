@@ -0,0 +1,58 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class CycloidParamMeshTest {
+
+    @Test
+    public void layout_pairsCurveAndAxisVerticesPerSample() {
+        CycloidParamMesh mesh = new CycloidParamMesh(5);
+        float[] v = mesh.vertices();
+
+        assertEquals(10, mesh.areaVertexCount());
+        assertEquals(5, mesh.trailVertexCount());
+        assertEquals(10 * CycloidParamMesh.COMPONENTS, v.length);
+        assertEquals(16, mesh.trailStrideBytes());
+
+        // Primer y último par: t = 0 y t = 1, curva (1) y luego eje (0)
+        assertArrayEquals(new float[]{0f, 1f, 0f, 0f}, java.util.Arrays.copyOfRange(v, 0, 4), 0f);
+        assertArrayEquals(new float[]{1f, 1f, 1f, 0f}, java.util.Arrays.copyOfRange(v, 16, 20), 0f);
+    }
+
+    @Test
+    public void shaderFormula_reproducesKernelCurveAndArea() {
+        double radius = 80.0;
+        double thetaMax = 4.2;
+        CycloidKernel kernel = new CycloidKernel(radius);
+        CycloidParamMesh mesh = new CycloidParamMesh(1024);
+        float[] v = mesh.vertices();
+
+        // Mismo cálculo que CycloidParamProgram.VERTEX_SHADER, en float
+        double area = 0;
+        float previousX = 0;
+        float previousY = 0;
+        for (int i = 0; i < mesh.areaVertexCount(); i++) {
+            float t = v[2 * i];
+            float flag = v[2 * i + 1];
+            float theta = t * (float) thetaMax;
+            float x = (float) radius * (theta - (float) Math.sin(theta));
+            float y = (float) radius * (1f - (float) Math.cos(theta)) * flag;
+
+            if (flag == 1f) {
+                assertEquals(kernel.x(t * thetaMax), x, 1e-3);
+                assertEquals(kernel.y(t * thetaMax), y, 1e-3);
+                // Trapecios entre muestras consecutivas de la curva
+                if (i > 0) {
+                    area += (x - previousX) * (y + previousY) / 2;
+                }
+                previousX = x;
+                previousY = y;
+            } else {
+                assertEquals(0f, y, 0f);
+            }
+        }
+        assertEquals(kernel.area(thetaMax), area, kernel.area(thetaMax) * 1e-4);
+    }
+}
@@ -0,0 +1,66 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas del modelo de escena: progreso por instancia y datos para la GPU
+ */
+public class CycloidSceneTest {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    @Test
+    public void comparison_spreadsRadiiAndPhases() {
+        CycloidScene scene = CycloidScene.comparison(10, 10.0, 100.0);
+
+        assertEquals(10, scene.size());
+        assertEquals(10.0, scene.get(0).radius, 1e-9);
+        assertEquals(100.0, scene.get(9).radius, 1e-9);
+        assertTrue(Math.abs(scene.get(1).phase - scene.get(2).phase) > 1e-6);
+        for (int i = 0; i < scene.size(); i++) {
+            assertTrue(scene.get(i).phase >= 0 && scene.get(i).phase < TWO_PI);
+        }
+    }
+
+    @Test
+    public void advance_stopsEachInstanceAtTwoPi() {
+        CycloidScene scene = CycloidScene.comparison(3, 10.0, 30.0);
+
+        assertTrue(scene.advance(TWO_PI - 0.1));
+        assertFalse(scene.advance(1.0));
+
+        for (int i = 0; i < scene.size(); i++) {
+            assertEquals(TWO_PI, scene.get(i).theta(), 0.0);
+        }
+        assertFalse(scene.isAnimating());
+    }
+
+    @Test
+    public void write_packsInstancesAndClearsDirtyFlag() {
+        CycloidScene scene = new CycloidScene();
+        scene.add(new CycloidInstance(50.0, 0.5, 0.1f, 0.2f, 0.3f, 0.4f));
+        scene.add(new CycloidInstance(20.0, 1.5, 1f, 1f, 1f, 1f));
+        scene.advance(1.0);
+
+        FloatBuffer out = FloatBuffer.allocate(64);
+        scene.write(out);
+
+        assertFalse(scene.isDirty());
+        assertEquals(2 * CycloidScene.FLOATS_PER_INSTANCE, out.limit());
+        float[] first = {50f, 1f, 0.5f, 0.1f, 0.2f, 0.3f, 0.4f};
+        for (int i = 0; i < first.length; i++) {
+            assertEquals(first[i], out.get(i), 1e-6f);
+        }
+        assertEquals(20f, out.get(CycloidScene.FLOATS_PER_INSTANCE), 0f);
+
+        // Solo se vuelve a subir si el progreso cambia
+        scene.advance(0.0);
+        assertFalse(scene.isDirty());
+        scene.advance(0.1);
+        assertTrue(scene.isDirty());
+    }
+}
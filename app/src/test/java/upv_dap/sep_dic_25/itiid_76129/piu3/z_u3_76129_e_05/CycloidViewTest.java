@@ -0,0 +1,199 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Paint;
+import android.graphics.Path;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.*;
+
+/**
+ * Vista Canvas sobre los stubs de android.jar: el bucle de frames no reserva memoria
+ */
+public class CycloidViewTest {
+
+    @Test
+    public void animationFrames_doNotAllocate() {
+        FakeSurface surface = new FakeSurface();
+        FramePacingMonitorTest.FakeFrames frames = new FramePacingMonitorTest.FakeFrames();
+        CycloidView view = new CycloidView(null, surface, frames);
+        Canvas canvas = new Canvas();
+        view.onSizeChanged(1080, 1200, 0, 0);
+        view.startAnimation(50.0);
+        long frameTime = 0;
+
+        // Calentar y cruzar un reinicio de ciclo (2π / 0.03 ≈ 210 pasos)
+        for (int i = 0; i < 300; i++) {
+            view.stepAnimation();
+            view.onDraw(canvas);
+            frames.fire(frameTime += 16_666_667L);
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        // Mejor de tres rondas: descarta reservas ajenas del propio JVM
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long start = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 240; i++) {
+                view.stepAnimation();
+                view.onDraw(canvas);
+                frames.fire(frameTime += 16_666_667L);
+            }
+            best = Math.min(best, threads.getThreadAllocatedBytes(threadId) - start);
+        }
+
+        assertTrue("bytes reservados en 240 frames: " + best, best < 240);
+        // Se midió la caché real: cada frame rasterizó su segmento
+        assertTrue(surface.canvas.paths > 500);
+    }
+
+    /**
+     * Canvas que cuenta sus llamadas de dibujo
+     */
+    private static class CountingCanvas extends Canvas {
+        int calls;
+        int paths;
+        int lines;
+        int bitmaps;
+
+        @Override
+        public void drawPath(Path path, Paint paint) {
+            calls++;
+            paths++;
+        }
+
+        @Override
+        public void drawLine(float startX, float startY, float stopX, float stopY, Paint paint) {
+            calls++;
+            lines++;
+        }
+
+        @Override
+        public void drawCircle(float cx, float cy, float radius, Paint paint) {
+            calls++;
+        }
+
+        @Override
+        public void drawBitmap(Bitmap bitmap, float left, float top, Paint paint) {
+            calls++;
+            bitmaps++;
+        }
+    }
+
+    /**
+     * Superficie de la estela sin Bitmap: registra lo que la vista dibuja en ella
+     */
+    private static class FakeSurface implements CycloidView.TrailSurface {
+        final CountingCanvas canvas = new CountingCanvas();
+        int resizes;
+        int clears;
+
+        @Override
+        public void resize(int width, int height) {
+            resizes++;
+        }
+
+        @Override
+        public Canvas canvas() {
+            return canvas;
+        }
+
+        @Override
+        public Bitmap bitmap() {
+            return null;
+        }
+
+        @Override
+        public void clear() {
+            clears++;
+        }
+    }
+
+    private static CycloidView newView(FakeSurface surface) {
+        return new CycloidView(null, surface, new FramePacingMonitorTest.FakeFrames());
+    }
+
+    @Test
+    public void drawCost_isConstantInTheta() {
+        FakeSurface surface = new FakeSurface();
+        CycloidView view = newView(surface);
+        view.onSizeChanged(1080, 1200, 0, 0);
+        view.startAnimation(50.0);
+
+        view.stepAnimation();
+        CountingCanvas early = new CountingCanvas();
+        view.onDraw(early);
+
+        for (int i = 0; i < 180; i++) {
+            view.stepAnimation();
+        }
+        CountingCanvas late = new CountingCanvas();
+        view.onDraw(late);
+
+        // La estela y el área salen de la caché: un drawBitmap y ningún Path por frame
+        assertEquals(early.calls, late.calls);
+        assertEquals(1, early.bitmaps);
+        assertEquals(1, late.bitmaps);
+        assertEquals(0, late.paths);
+    }
+
+    @Test
+    public void trailCache_getsOneTrapezoidAndOneLinePerStep() {
+        FakeSurface surface = new FakeSurface();
+        CycloidView view = newView(surface);
+        view.onSizeChanged(1080, 1200, 0, 0);
+        view.startAnimation(50.0);
+        int clears = surface.clears;
+
+        // El primer paso (θ = Δθ) reinicia la estela; cada paso siguiente añade un segmento
+        view.stepAnimation();
+        assertEquals(clears + 1, surface.clears);
+        assertEquals(0, surface.canvas.calls);
+
+        for (int i = 1; i <= 100; i++) {
+            view.stepAnimation();
+            assertEquals(i, surface.canvas.paths);
+            assertEquals(i, surface.canvas.lines);
+        }
+        assertEquals(200, surface.canvas.calls);
+    }
+
+    @Test
+    public void sizeChangeAndRestart_clearAndRebuildTheCache() {
+        FakeSurface surface = new FakeSurface();
+        CycloidView view = newView(surface);
+        view.onSizeChanged(1080, 1200, 0, 0);
+        assertEquals(1, surface.resizes);
+
+        view.startAnimation(50.0);
+        for (int i = 0; i < 60; i++) {
+            view.stepAnimation();
+        }
+        int segments = surface.canvas.paths;
+        assertEquals(59, segments);
+
+        // Nuevo tamaño: se vacía la caché y se vuelven a rasterizar los mismos segmentos
+        int clears = surface.clears;
+        view.onSizeChanged(720, 800, 1080, 1200);
+        assertEquals(2, surface.resizes);
+        assertTrue(surface.clears > clears);
+        assertEquals(2 * segments, surface.canvas.paths);
+        assertEquals(2 * segments, surface.canvas.lines);
+
+        // Reinicio: se vacía la caché y la estela vuelve a crecer desde θ = 0
+        clears = surface.clears;
+        view.startAnimation(30.0);
+        assertEquals(clears + 1, surface.clears);
+        assertEquals(2 * segments, surface.canvas.paths);
+        for (int i = 0; i < 10; i++) {
+            view.stepAnimation();
+        }
+        assertEquals(2 * segments + 9, surface.canvas.paths);
+    }
+}
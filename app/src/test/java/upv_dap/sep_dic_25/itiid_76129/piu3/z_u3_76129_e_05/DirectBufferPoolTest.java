@@ -0,0 +1,135 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de DirectBufferPool con buffers de heap y un reloj manual
+ */
+public class DirectBufferPoolTest {
+
+    /**
+     * Asignador de heap que cuenta reservas reales
+     */
+    private static class CountingAllocator implements GrowableVertexBuffer.Allocator {
+        int allocations = 0;
+
+        @Override
+        public FloatBuffer allocate(int floatCapacity) {
+            allocations++;
+            return FloatBuffer.allocate(floatCapacity);
+        }
+    }
+
+    private CountingAllocator source;
+    private AnimationClockTest.ManualTime time;
+    private DirectBufferPool pool;
+
+    @Before
+    public void setUp() {
+        source = new CountingAllocator();
+        time = new AnimationClockTest.ManualTime();
+        pool = new DirectBufferPool(source, time);
+    }
+
+    @Test
+    public void sizeClasses_arePowersOfTwo() {
+        assertEquals(64, DirectBufferPool.classCapacity(1));
+        assertEquals(64, DirectBufferPool.classCapacity(64));
+        assertEquals(128, DirectBufferPool.classCapacity(65));
+        assertEquals(4096, DirectBufferPool.classCapacity(3000));
+    }
+
+    @Test
+    public void releasedBuffer_isReusedWithoutAllocating() {
+        FloatBuffer first = pool.acquire(100);
+        first.put(1f).limit(10);
+        pool.release(first);
+
+        FloatBuffer second = pool.acquire(120);
+
+        assertSame(first, second);
+        assertEquals(1, source.allocations);
+        assertEquals(0, second.position());
+        assertEquals(second.capacity(), second.limit());
+    }
+
+    @Test
+    public void metrics_trackInUseHighWaterAndPooled() {
+        FloatBuffer a = pool.acquire(64);     // 256 B
+        FloatBuffer b = pool.acquire(200);    // 256 floats = 1024 B
+        pool.release(a);
+        pool.release(b);
+        pool.acquire(10);
+
+        assertEquals(256, pool.inUseBytes());
+        assertEquals(1280, pool.highWaterBytes());
+        assertEquals(1024, pool.pooledBytes());
+        assertEquals(1280, pool.allocatedBytes());
+    }
+
+    @Test
+    public void arena_returnsEverythingOnBeginFrame() {
+        DirectBufferPool.Arena arena = pool.newArena();
+
+        for (int frame = 0; frame < 100; frame++) {
+            pool.beginFrame();
+            arena.acquire(500);
+            arena.acquire(500);
+        }
+
+        // Dos buffers bastan para todos los frames
+        assertEquals(2, source.allocations);
+        assertEquals(2 * 512 * 4, arena.highWaterBytes());
+        pool.beginFrame();
+        assertEquals(0, pool.inUseBytes());
+    }
+
+    @Test
+    public void allocationRate_isMeasuredPerWindow() {
+        pool.beginFrame();
+        pool.acquire(256);   // 1 KB
+        pool.acquire(256);
+
+        time.now += 500_000_000L;
+        pool.beginFrame();
+        assertEquals(0.0, pool.allocatedBytesPerSecond(), 0.0);   // Ventana sin completar
+
+        time.now += 500_000_000L;
+        pool.beginFrame();
+        assertEquals(2048.0, pool.allocatedBytesPerSecond(), 1e-6);
+
+        // Sin reservas nuevas la tasa vuelve a cero
+        time.now += 1_000_000_000L;
+        pool.beginFrame();
+        assertEquals(0.0, pool.allocatedBytesPerSecond(), 0.0);
+    }
+
+    @Test
+    public void growableBuffer_returnsReplacedBuffersToPool() {
+        GrowableVertexBuffer buffer = new GrowableVertexBuffer(1, pool);
+        for (int i = 0; i < 1000; i++) {
+            buffer.append(i, 0f, 0f);
+        }
+
+        // Solo el buffer actual sigue prestado
+        assertEquals(buffer.buffer().capacity() * 4L, pool.inUseBytes());
+
+        // Un segundo trazo del mismo tamaño reutiliza los buffers liberados
+        int allocations = source.allocations;
+        GrowableVertexBuffer again = new GrowableVertexBuffer(1, pool);
+        for (int i = 0; i < 500; i++) {
+            again.append(i, 0f, 0f);
+        }
+        assertEquals(allocations, source.allocations);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void foreignBuffer_isRejected() {
+        pool.release(FloatBuffer.allocate(100));
+    }
+}
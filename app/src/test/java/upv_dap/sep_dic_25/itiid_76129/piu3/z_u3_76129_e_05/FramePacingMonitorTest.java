@@ -0,0 +1,92 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import android.view.Choreographer;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Monitor de ritmo con un origen de vsync falso en lugar del Choreographer
+ */
+public class FramePacingMonitorTest {
+
+    /**
+     * Guarda el callback pendiente; fire() simula el siguiente vsync
+     */
+    static class FakeFrames implements FramePacingMonitor.FrameSource {
+        Choreographer.FrameCallback pending;
+        int posts;
+        int removes;
+
+        @Override
+        public void postFrameCallback(Choreographer.FrameCallback callback) {
+            pending = callback;
+            posts++;
+        }
+
+        @Override
+        public void removeFrameCallback(Choreographer.FrameCallback callback) {
+            if (pending == callback) {
+                pending = null;
+            }
+            removes++;
+        }
+
+        void fire(long frameTimeNanos) {
+            Choreographer.FrameCallback callback = pending;
+            pending = null;
+            callback.doFrame(frameTimeNanos);
+        }
+    }
+
+    private static final FramePacingMonitor.SweepProgress HALFWAY = new FramePacingMonitor.SweepProgress() {
+        @Override
+        public double sweepProgress() {
+            return 0.5;
+        }
+    };
+
+    @Test
+    public void frames_feedStatsUntilStopped() {
+        FramePacingStats stats = new FramePacingStats();
+        FakeFrames frames = new FakeFrames();
+        FramePacingMonitor monitor = new FramePacingMonitor(stats, HALFWAY, frames);
+        long period = FramePacingStats.periodFromRefreshRate(60f);
+
+        monitor.start(60f);
+        monitor.start(60f);   // Ya activo: no se registra dos veces
+        assertEquals(1, frames.posts);
+
+        for (int i = 0; i < 10; i++) {
+            frames.fire(i * period);
+        }
+        // Cada frame vuelve a registrarse; el primero solo abre la secuencia
+        assertEquals(11, frames.posts);
+        assertEquals(9, stats.frameCount());
+        assertEquals(9, stats.framesInBand(FramePacingStats.bandFor(0.5)));
+
+        monitor.stop();
+        assertEquals(1, frames.removes);
+        assertNull(frames.pending);
+    }
+
+    @Test
+    public void restart_doesNotCountThePause() {
+        FramePacingStats stats = new FramePacingStats();
+        FakeFrames frames = new FakeFrames();
+        FramePacingMonitor monitor = new FramePacingMonitor(stats, HALFWAY, frames);
+        long period = FramePacingStats.periodFromRefreshRate(60f);
+
+        monitor.start(60f);
+        frames.fire(0);
+        frames.fire(period);
+        monitor.stop();
+
+        monitor.start(60f);
+        frames.fire(100 * period);
+        frames.fire(101 * period);
+
+        assertEquals(2, stats.frameCount());
+        assertEquals(0, stats.jankyFrameCount());
+    }
+}
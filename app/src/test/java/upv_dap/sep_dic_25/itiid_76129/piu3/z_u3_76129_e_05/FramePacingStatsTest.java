@@ -0,0 +1,113 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Conteo de jank e histograma con marcas de tiempo sintéticas
+ */
+public class FramePacingStatsTest {
+
+    private static final long PERIOD_60HZ = FramePacingStats.periodFromRefreshRate(60f);
+
+    @Test
+    public void missedVsyncs_roundsToNearestPeriod() {
+        long p = 10_000_000L;
+
+        assertEquals(0, FramePacingStats.missedVsyncs(p, p));
+        assertEquals(0, FramePacingStats.missedVsyncs(p * 14 / 10, p));   // Retraso de vsync
+        assertEquals(1, FramePacingStats.missedVsyncs(p * 16 / 10, p));
+        assertEquals(1, FramePacingStats.missedVsyncs(2 * p, p));
+        assertEquals(3, FramePacingStats.missedVsyncs(4 * p, p));
+        assertEquals(0, FramePacingStats.missedVsyncs(p / 3, p));        // Frame adelantado
+    }
+
+    @Test
+    public void bucketFor_groupsLongStalls() {
+        assertEquals(0, FramePacingStats.bucketFor(0));
+        assertEquals(1, FramePacingStats.bucketFor(1));
+        assertEquals(3, FramePacingStats.bucketFor(3));
+        assertEquals(4, FramePacingStats.bucketFor(4));
+        assertEquals(4, FramePacingStats.bucketFor(7));
+        assertEquals(5, FramePacingStats.bucketFor(8));
+        assertEquals(5, FramePacingStats.bucketFor(500));
+    }
+
+    @Test
+    public void onFrame_buildsHistogramFromIntervals() {
+        FramePacingStats stats = new FramePacingStats();
+        long t = 1_000_000_000L;
+        stats.onFrame(t, 0);                     // Primer frame: sin intervalo
+
+        long[] periods = {1, 1, 2, 1, 3, 1, 6, 12};
+        for (long n : periods) {
+            t += n * PERIOD_60HZ;
+            stats.onFrame(t, 0.5);
+        }
+
+        assertEquals(8, stats.frameCount());
+        assertEquals(4, stats.jankyFrameCount());
+        assertEquals(1 + 2 + 5 + 11, stats.missedVsyncCount());
+        assertEquals(4, stats.histogram(0));
+        assertEquals(1, stats.histogram(1));
+        assertEquals(1, stats.histogram(2));
+        assertEquals(1, stats.histogram(4));
+        assertEquals(1, stats.histogram(5));
+    }
+
+    @Test
+    public void breakSequence_ignoresIdleGap() {
+        FramePacingStats stats = new FramePacingStats();
+        stats.onFrame(0, 0);
+        stats.onFrame(PERIOD_60HZ, 0);
+
+        // Pausa de un segundo: no es jank
+        stats.breakSequence();
+        stats.onFrame(PERIOD_60HZ + 1_000_000_000L, 0);
+        stats.onFrame(2 * PERIOD_60HZ + 1_000_000_000L, 0);
+
+        assertEquals(2, stats.frameCount());
+        assertEquals(0, stats.jankyFrameCount());
+    }
+
+    @Test
+    public void jank_isCorrelatedWithSweepBand() {
+        FramePacingStats stats = new FramePacingStats();
+        long t = 0;
+        stats.onFrame(t, 0);
+
+        // Inicio del barrido fluido, segunda mitad con un vsync perdido cada dos frames
+        for (int i = 0; i < 10; i++) {
+            t += PERIOD_60HZ;
+            stats.onFrame(t, 0.05);
+        }
+        for (int i = 0; i < 10; i++) {
+            t += (i % 2 == 0 ? 2 : 1) * PERIOD_60HZ;
+            stats.onFrame(t, 0.55);
+        }
+
+        assertEquals(10, stats.framesInBand(0));
+        assertEquals(0, stats.jankInBand(0));
+        assertEquals(10, stats.framesInBand(4));
+        assertEquals(5, stats.jankInBand(4));
+        assertEquals(FramePacingStats.SWEEP_BANDS - 1, FramePacingStats.bandFor(1.0));
+        assertEquals(0, FramePacingStats.bandFor(-0.1));
+        assertTrue(stats.summary().contains("50-62%:5/10"));
+    }
+
+    @Test
+    public void refreshRate_changesDeadline() {
+        FramePacingStats stats = new FramePacingStats();
+        stats.setRefreshRate(120f);
+        long period120 = FramePacingStats.periodFromRefreshRate(120f);
+
+        // 16.7 ms es un frame puntual a 60 Hz pero pierde un vsync a 120 Hz
+        stats.onFrame(0, 0);
+        stats.onFrame(PERIOD_60HZ, 0);
+
+        assertEquals(period120, stats.refreshPeriodNanos());
+        assertEquals(1, stats.jankyFrameCount());
+        assertTrue(stats.summary().contains("120 Hz"));
+    }
+}
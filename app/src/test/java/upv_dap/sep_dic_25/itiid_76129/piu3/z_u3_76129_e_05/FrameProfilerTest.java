@@ -0,0 +1,159 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * Núcleo del perfilador: etapas, buffer circular y percentiles
+ */
+public class FrameProfilerTest {
+
+    /**
+     * Tiempo manual en nanosegundos
+     */
+    private static class ManualTime implements AnimationClock.TimeSource {
+        long now = 0;
+
+        @Override
+        public long nanoTime() {
+            return now;
+        }
+    }
+
+    private final ManualTime time = new ManualTime();
+
+    private void frame(FrameProfiler profiler, long cameraNanos, long areaNanos) {
+        profiler.beginFrame();
+        time.now += cameraNanos;
+        profiler.mark(FrameProfiler.CAMERA);
+        time.now += areaNanos;
+        profiler.mark(FrameProfiler.DRAW_AREA);
+        profiler.endFrame();
+    }
+
+    @Test
+    public void disabled_recordsNothing() {
+        FrameProfiler profiler = new FrameProfiler(time);
+
+        assertFalse(profiler.beginFrame());
+        profiler.mark(FrameProfiler.CAMERA);
+        profiler.endFrame();
+
+        assertEquals(0, profiler.frameCount());
+        assertEquals(-1, profiler.percentile(FrameProfiler.FRAME, 50));
+    }
+
+    @Test
+    public void marks_attributeTimeToStages() {
+        FrameProfiler profiler = new FrameProfiler(time);
+        profiler.setEnabled(true);
+
+        frame(profiler, 1_000, 5_000);
+
+        assertEquals(1_000, profiler.percentile(FrameProfiler.CAMERA, 50));
+        assertEquals(5_000, profiler.percentile(FrameProfiler.DRAW_AREA, 50));
+        assertEquals(6_000, profiler.percentile(FrameProfiler.FRAME, 50));
+        // Sin temporizador de GPU no hay dato
+        assertEquals(-1, profiler.percentile(FrameProfiler.GPU, 50));
+    }
+
+    @Test
+    public void percentiles_useNearestRank() {
+        FrameProfiler profiler = new FrameProfiler(time);
+        profiler.setEnabled(true);
+
+        // 1..100 µs en orden inverso
+        for (int i = 100; i >= 1; i--) {
+            frame(profiler, 0, i * 1_000L);
+        }
+
+        assertEquals(50_000, profiler.percentile(FrameProfiler.DRAW_AREA, 50));
+        assertEquals(95_000, profiler.percentile(FrameProfiler.DRAW_AREA, 95));
+        assertEquals(99_000, profiler.percentile(FrameProfiler.DRAW_AREA, 99));
+    }
+
+    @Test
+    public void ring_keepsOnlyLatestFrames() {
+        FrameProfiler profiler = new FrameProfiler(time, 8);
+        profiler.setEnabled(true);
+
+        for (int i = 0; i < 8; i++) {
+            frame(profiler, 1_000_000, 0);
+        }
+        for (int i = 0; i < 8; i++) {
+            frame(profiler, 2_000, 0);
+        }
+
+        long[] values = new long[8];
+        assertEquals(8, profiler.snapshot(FrameProfiler.CAMERA, values));
+        assertEquals(2_000, profiler.percentile(FrameProfiler.CAMERA, 99));
+        assertEquals(16, profiler.frameCount());
+    }
+
+    @Test
+    public void gpuTime_isStoredWithFrame() {
+        FrameProfiler profiler = new FrameProfiler(time);
+        profiler.setEnabled(true);
+
+        profiler.beginFrame();
+        profiler.recordGpu(-1);        // Aún no disponible
+        profiler.recordGpu(3_000_000);
+        profiler.endFrame();
+
+        assertEquals(3_000_000, profiler.percentile(FrameProfiler.GPU, 50));
+    }
+
+    @Test
+    public void summary_listsTotalsAndStagesWithData() {
+        FrameProfiler profiler = new FrameProfiler(time);
+        profiler.setEnabled(true);
+        frame(profiler, 1_000_000, 2_000_000);
+
+        String summary = profiler.summary();
+
+        assertTrue(summary.contains("frame"));
+        assertTrue(summary.contains("área"));
+        assertTrue(summary, summary.contains("3.00"));
+        assertFalse(summary.contains("GPU "));
+    }
+
+    @Test
+    public void concurrentReader_neverSeesTornSamples() throws InterruptedException {
+        // Cada frame tiene cámara = área: una muestra mezclada lo rompería
+        final FrameProfiler profiler = new FrameProfiler(time, 16);
+        profiler.setEnabled(true);
+        final AtomicBoolean done = new AtomicBoolean(false);
+        final AtomicReference<String> failure = new AtomicReference<>();
+
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                long[] camera = new long[16];
+                long[] area = new long[16];
+                while (!done.get()) {
+                    int n = profiler.snapshot(FrameProfiler.CAMERA, camera);
+                    int m = profiler.snapshot(FrameProfiler.DRAW_AREA, area);
+                    for (int i = 0; i < n; i++) {
+                        if (camera[i] % 1_000 != 0) failure.set("cámara " + camera[i]);
+                    }
+                    for (int i = 0; i < m; i++) {
+                        if (area[i] % 1_000 != 0) failure.set("área " + area[i]);
+                    }
+                }
+            }
+        });
+        reader.start();
+
+        for (int i = 1; i <= 200_000; i++) {
+            frame(profiler, i * 1_000L, i * 1_000L);
+        }
+        done.set(true);
+        reader.join();
+
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,41 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Consultas de tiempo de GPU sobre la GLApi falsa
+ */
+public class GpuTimerTest {
+
+    @Test
+    public void isSupported_requiresEs3AndExtension() {
+        CountingGL gl = new CountingGL();
+        assertFalse(GpuTimer.isSupported(gl));
+
+        gl.extensions = "GL_OES_foo " + GpuTimer.EXTENSION;
+        assertFalse(GpuTimer.isSupported(gl));
+
+        gl.version = "OpenGL ES 3.2 v1";
+        assertTrue(GpuTimer.isSupported(gl));
+    }
+
+    @Test
+    public void poll_readsOldestQueryWithoutBlocking() {
+        CountingGL gl = new CountingGL();
+        gl.queryNanos = 2_500_000;
+        GpuTimer timer = new GpuTimer(gl);
+
+        // Nada pendiente todavía
+        assertEquals(-1, timer.poll());
+
+        // Tras dar la vuelta al anillo la consulta más antigua se lee
+        for (int i = 0; i < 4; i++) {
+            timer.begin();
+            timer.end();
+        }
+        assertEquals(2_500_000, timer.poll());
+        assertEquals(-1, timer.poll());
+    }
+}
@@ -0,0 +1,132 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import java.nio.FloatBuffer;
+
+import static org.junit.Assert.*;
+
+/**
+ * Pruebas de GrowableVertexBuffer usando un asignador de heap que cuenta reservas
+ */
+public class GrowableVertexBufferTest {
+
+    /**
+     * Asignador sobre FloatBuffer de heap que registra cada reserva
+     */
+    private static class CountingAllocator implements GrowableVertexBuffer.Allocator {
+        int allocations = 0;
+        long floatsAllocated = 0;
+
+        @Override
+        public FloatBuffer allocate(int floatCapacity) {
+            allocations++;
+            floatsAllocated += floatCapacity;
+            return FloatBuffer.allocate(floatCapacity);
+        }
+    }
+
+    @Test
+    public void append_storesVerticesInOrder() {
+        GrowableVertexBuffer buffer = new GrowableVertexBuffer(2, new CountingAllocator());
+
+        for (int i = 0; i < 10; i++) {
+            buffer.append(i, i * 2f, i * 3f);
+        }
+
+        assertEquals(10, buffer.vertexCount());
+        FloatBuffer data = buffer.buffer();
+        assertEquals(0, data.position());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, data.get(i * 3), 0f);
+            assertEquals(i * 2f, data.get(i * 3 + 1), 0f);
+            assertEquals(i * 3f, data.get(i * 3 + 2), 0f);
+        }
+    }
+
+    @Test
+    public void growth_isGeometric() {
+        CountingAllocator allocator = new CountingAllocator();
+        GrowableVertexBuffer buffer = new GrowableVertexBuffer(1, allocator);
+
+        int vertices = 100_000;
+        for (int i = 0; i < vertices; i++) {
+            buffer.append(i, 0f, 0f);
+        }
+
+        // 1 reserva inicial + log2(100000) duplicaciones como máximo
+        assertTrue(allocator.allocations <= 1 + 17);
+        // La memoria total reservada está acotada por ~2x la capacidad final
+        assertTrue(allocator.floatsAllocated <= 4L * vertices * GrowableVertexBuffer.FLOATS_PER_VERTEX);
+    }
+
+    @Test
+    public void warmBuffer_doesNotAllocate() {
+        CountingAllocator allocator = new CountingAllocator();
+        GrowableVertexBuffer buffer = new GrowableVertexBuffer(16, allocator);
+
+        // Primer barrido: calienta el buffer
+        for (int i = 0; i < 315; i++) {
+            buffer.append(i, i, 0f);
+        }
+        int warmAllocations = allocator.allocations;
+
+        // Barridos posteriores reutilizan la misma memoria
+        for (int sweep = 0; sweep < 5; sweep++) {
+            buffer.clear();
+            for (int i = 0; i < 315; i++) {
+                buffer.append(i, i, 0f);
+            }
+        }
+
+        assertEquals(warmAllocations, allocator.allocations);
+        assertEquals(315, buffer.vertexCount());
+    }
+
+    @Test
+    public void presizedBuffer_neverGrows() {
+        CountingAllocator allocator = new CountingAllocator();
+        GrowableVertexBuffer buffer = new GrowableVertexBuffer(317, allocator);
+
+        for (int i = 0; i < 317; i++) {
+            buffer.append(i, 0f, 0f);
+        }
+
+        assertEquals(1, allocator.allocations);
+        assertEquals(317, buffer.vertexCapacity());
+    }
+
+    @Test
+    public void growth_preservesExistingVertices() {
+        GrowableVertexBuffer buffer = new GrowableVertexBuffer(1, new CountingAllocator());
+
+        buffer.append(1f, 2f, 3f);
+        buffer.append(4f, 5f, 6f);
+        buffer.append(7f, 8f, 9f);
+
+        float[] expected = {1f, 2f, 3f, 4f, 5f, 6f, 7f, 8f, 9f};
+        float[] actual = new float[expected.length];
+        buffer.buffer().get(actual);
+        assertArrayEquals(expected, actual, 0f);
+    }
+
+    @Test
+    public void indexedReads_matchAppendedVertices() {
+        GrowableVertexBuffer buffer = new GrowableVertexBuffer(1, new CountingAllocator());
+        for (int i = 0; i < 1000; i++) {
+            buffer.append(i, -i, i * 0.5f);
+        }
+
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, buffer.x(i), 0f);
+            assertEquals(-i, buffer.y(i), 0f);
+            assertEquals(i * 0.5f, buffer.z(i), 0f);
+        }
+
+        // clear() conserva la memoria y los índices vuelven a empezar en 0
+        buffer.clear();
+        buffer.append(9f, 8f, 7f);
+        assertEquals(9f, buffer.x(0), 0f);
+        assertEquals(8f, buffer.y(0), 0f);
+    }
+}
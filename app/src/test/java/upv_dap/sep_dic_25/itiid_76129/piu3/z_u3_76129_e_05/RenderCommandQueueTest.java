@@ -0,0 +1,93 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+public class RenderCommandQueueTest {
+
+    @Test
+    public void commands_runInOrderOnDrain() {
+        RenderCommandQueue queue = new RenderCommandQueue();
+        final List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final int value = i;
+            queue.post(new Runnable() {
+                @Override
+                public void run() {
+                    order.add(value);
+                }
+            });
+        }
+
+        assertTrue(order.isEmpty());
+        assertEquals(3, queue.drainCommands());
+        assertEquals(List.of(0, 1, 2), order);
+        assertEquals(0, queue.drainCommands());
+    }
+
+    @Test
+    public void rotationBurst_coalescesIntoOneDelta() {
+        RenderCommandQueue queue = new RenderCommandQueue();
+        for (int i = 0; i < 10; i++) {
+            queue.addRotation(-0.5f, 1.5f);
+        }
+
+        long rotation = queue.takeRotation();
+
+        assertEquals(-5f, RenderCommandQueue.rotationX(rotation), 0f);
+        assertEquals(15f, RenderCommandQueue.rotationY(rotation), 0f);
+        assertEquals(0L, queue.takeRotation());
+    }
+
+    @Test
+    public void concurrentRotation_neverTearsOrLosesDeltas() throws InterruptedException {
+        final RenderCommandQueue queue = new RenderCommandQueue();
+        final int perThread = 200_000;
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // Dos productores (toques) y el hilo de la prueba como hilo GL
+        Thread[] producers = new Thread[2];
+        for (int t = 0; t < producers.length; t++) {
+            producers[t] = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < perThread; i++) {
+                        queue.addRotation(1f, 2f);
+                    }
+                }
+            });
+            producers[t].start();
+        }
+
+        double totalX = 0;
+        double totalY = 0;
+        boolean running = true;
+        while (running) {
+            running = producers[0].isAlive() || producers[1].isAlive();
+            long rotation = queue.takeRotation();
+            float x = RenderCommandQueue.rotationX(rotation);
+            float y = RenderCommandQueue.rotationY(rotation);
+            // Cada lectura debe ser una suma completa de pares (1, 2)
+            if (y != 2f * x && failure.get() == null) {
+                failure.set(new AssertionError("estado roto: " + x + ", " + y));
+            }
+            totalX += x;
+            totalY += y;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        long rest = queue.takeRotation();
+        totalX += RenderCommandQueue.rotationX(rest);
+        totalY += RenderCommandQueue.rotationY(rest);
+
+        assertNull(failure.get());
+        assertEquals(2.0 * perThread, totalX, 0.0);
+        assertEquals(4.0 * perThread, totalY, 0.0);
+    }
+}
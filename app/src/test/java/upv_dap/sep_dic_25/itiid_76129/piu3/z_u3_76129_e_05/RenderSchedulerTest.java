@@ -0,0 +1,70 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RenderSchedulerTest {
+
+    private static final long FRAME = 16_666_667L;
+    private static final long SECOND = 1_000_000_000L;
+
+    private static class CountingRequester implements RenderScheduler.RenderRequester {
+        int requests = 0;
+
+        @Override
+        public void requestRender() {
+            requests++;
+        }
+    }
+
+    @Test
+    public void activeFrames_requestNextFrame() {
+        CountingRequester requester = new CountingRequester();
+        RenderScheduler scheduler = new RenderScheduler(requester, 0);
+
+        scheduler.onFrameRendered(true, FRAME);
+        scheduler.onFrameRendered(true, 2 * FRAME);
+
+        assertEquals(2, requester.requests);
+        assertFalse(scheduler.isIdle());
+    }
+
+    @Test
+    public void idleFrame_doesNotRequestAnother() {
+        CountingRequester requester = new CountingRequester();
+        RenderScheduler scheduler = new RenderScheduler(requester, 0);
+
+        scheduler.onFrameRendered(true, FRAME);
+        scheduler.onFrameRendered(false, 2 * FRAME);
+
+        assertEquals(1, requester.requests);
+        assertTrue(scheduler.isIdle());
+    }
+
+    @Test
+    public void idleFramesPerMinute_countsOnlyFramesWhileIdle() {
+        RenderScheduler scheduler = new RenderScheduler(new CountingRequester(), 0);
+
+        // Animación de 1 s: no cuenta como reposo
+        long now = 0;
+        for (int i = 0; i < 60; i++) {
+            now += FRAME;
+            scheduler.onFrameRendered(true, now);
+        }
+        now += FRAME;
+        scheduler.onFrameRendered(false, now);
+        long idleStart = now;
+
+        // 30 s de reposo con 3 frames por toques
+        for (int i = 0; i < 3; i++) {
+            now += 10 * SECOND;
+            scheduler.onFrameRendered(false, now);
+        }
+
+        assertEquals(3, scheduler.idleFrames());
+        assertEquals(6.0, scheduler.idleFramesPerMinute(idleStart + 30 * SECOND), 0.01);
+        // Otros 30 s sin frames reducen la tasa a la mitad
+        assertEquals(3.0, scheduler.idleFramesPerMinute(idleStart + 60 * SECOND), 0.01);
+    }
+}
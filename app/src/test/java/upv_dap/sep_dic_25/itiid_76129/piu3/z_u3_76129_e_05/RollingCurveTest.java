@@ -0,0 +1,143 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class RollingCurveTest {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    private static RollingCurve[] curves() {
+        return new RollingCurve[]{
+                new CycloidKernel(40),
+                new TrochoidCurve(40, 65),   // prolata
+                new TrochoidCurve(40, 15),   // acortada
+                RouletteCurve.epicycloid(60, 40),
+                RouletteCurve.hypocycloid(120, 40),
+                RouletteCurve.hypotrochoid(100, 35, 20),
+        };
+    }
+
+    @Test
+    public void trochoidWithTracerOnRim_isTheCycloid() {
+        CycloidKernel kernel = new CycloidKernel(37.5);
+        TrochoidCurve trochoid = new TrochoidCurve(37.5, 37.5);
+        for (double theta = 0; theta <= TWO_PI; theta += 0.1) {
+            assertEquals(kernel.x(theta), trochoid.x(theta), 1e-9);
+            assertEquals(kernel.y(theta), trochoid.y(theta), 1e-9);
+            // La cota general |r''| = a nunca es menor que la del cicloide
+            assertTrue(trochoid.maxBend(theta, theta) >= kernel.maxBend(theta, theta));
+        }
+    }
+
+    @Test
+    public void batchEvaluation_matchesPointwise() {
+        double[] thetas = new double[50];
+        for (int i = 0; i < thetas.length; i++) {
+            thetas[i] = i * 0.37;
+        }
+        for (RollingCurve curve : curves()) {
+            float[] out = new float[2 + 40 * RollingCurve.STRIDE];
+            curve.evaluate(thetas, 5, 40, out, 2);
+            for (int i = 0; i < 40; i++) {
+                double theta = thetas[5 + i];
+                assertEquals(curve.x(theta), out[2 + 2 * i], 1e-3);
+                assertEquals(curve.y(theta), out[3 + 2 * i], 1e-3);
+            }
+        }
+    }
+
+    @Test
+    public void tracer_isOnTheRotatedWheel() {
+        for (RollingCurve curve : curves()) {
+            double d = Math.hypot(curve.x(0) - curve.wheelCenterX(0), curve.y(0) - curve.wheelCenterY(0));
+            for (double theta = 0; theta <= curve.period(); theta += 0.3) {
+                // El punto (0, −d) de la rueda girado wheelRotation(θ)
+                double rotation = curve.wheelRotation(theta);
+                double x = curve.wheelCenterX(theta) + d * Math.sin(rotation);
+                double y = curve.wheelCenterY(theta) - d * Math.cos(rotation);
+                assertEquals(curve.x(theta), x, 1e-9);
+                assertEquals(curve.y(theta), y, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void roulettes_closeAfterTheirPeriod() {
+        // R/a = 3/2: dos vueltas; R/a = 3: una
+        assertEquals(2 * TWO_PI, RouletteCurve.epicycloid(60, 40).period(), 1e-12);
+        assertEquals(TWO_PI, RouletteCurve.hypocycloid(120, 40).period(), 1e-12);
+        assertEquals(1, RouletteCurve.laps(Math.PI));
+
+        for (RollingCurve curve : curves()) {
+            if (curve.archShift() > 0) continue;
+            double end = curve.period();
+            assertEquals(curve.x(0), curve.x(end), 1e-9);
+            assertEquals(curve.y(0), curve.y(end), 1e-9);
+            assertFalse(curve.fillsToAxis());
+        }
+        // Epicicloide: las cúspides tocan el círculo fijo
+        RouletteCurve epi = RouletteCurve.epicycloid(60, 40);
+        assertEquals(60, Math.hypot(epi.x(0), epi.y(0)), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void hypocycloid_needsWheelSmallerThanFixedCircle() {
+        RouletteCurve.hypocycloid(40, 40);
+    }
+
+    @Test
+    public void bendTable_boundsSampledCurvature() {
+        for (RollingCurve curve : curves()) {
+            double period = curve.period();
+            for (double theta = 0; theta < period; theta += 0.013) {
+                assertTrue(curve.maxBend(theta, theta + 0.05) >= curve.bend(theta) - 1e-9);
+                // Los θ fuera de [0, periodo) se reducen al mismo periodo
+                assertEquals(curve.maxBend(theta, theta), curve.maxBend(theta + period, theta + period), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void plannedThetas_keepChordErrorUnderTolerance() {
+        AdaptiveTessellator tessellator = new AdaptiveTessellator(0.25);
+        double pixelsPerUnit = 4.0;
+        double[] chunk = new double[64];
+
+        for (RollingCurve curve : curves()) {
+            double end = curve.period();
+            double theta = 0;
+            double worst = 0;
+            int points = 1;
+            while (theta < end) {
+                int count = tessellator.planThetas(curve, theta, end, pixelsPerUnit, chunk);
+                assertTrue(count > 0 && count <= chunk.length);
+                for (int i = 0; i < count; i++) {
+                    worst = Math.max(worst, chordErrorPx(curve, theta, chunk[i], pixelsPerUnit));
+                    theta = chunk[i];
+                }
+                points += count;
+            }
+
+            assertEquals(end, theta, 0.0);
+            assertTrue(points <= Math.ceil(end / AdaptiveTessellator.MIN_STEP) + 1);
+            assertTrue("flecha: " + worst, worst <= 0.25 * 1.5);
+        }
+    }
+
+    private static double chordErrorPx(RollingCurve curve, double from, double to, double pixelsPerUnit) {
+        double ax = curve.x(from), ay = curve.y(from);
+        double bx = curve.x(to), by = curve.y(to);
+        double length = Math.hypot(bx - ax, by - ay);
+        double worst = 0;
+        for (int k = 1; k < 16; k++) {
+            double t = from + (to - from) * k / 16;
+            double px = curve.x(t) - ax, py = curve.y(t) - ay;
+            double distance = length == 0 ? Math.hypot(px, py)
+                    : Math.abs(px * (by - ay) - py * (bx - ax)) / length;
+            worst = Math.max(worst, distance * pixelsPerUnit);
+        }
+        return worst;
+    }
+}
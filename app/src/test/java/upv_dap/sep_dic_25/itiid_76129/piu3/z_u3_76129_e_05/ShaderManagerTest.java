@@ -0,0 +1,134 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.Assert.*;
+
+public class ShaderManagerTest {
+
+    private static final String VERTEX = "attribute vec4 vPosition; void main() { gl_Position = vPosition; }";
+    private static final String FRAGMENT = "void main() { gl_FragColor = vec4(1.0); }";
+
+    @Test
+    public void compileFailure_surfacesInfoLog() {
+        CountingGL gl = new CountingGL();
+        gl.compileStatus = 0;
+        gl.infoLog = "ERROR: 0:1: syntax error";
+        ShaderManager manager = new ShaderManager(gl, null);
+        manager.onContextCreated();
+
+        try {
+            manager.getProgram(VERTEX, FRAGMENT);
+            fail("Se esperaba ShaderException");
+        } catch (ShaderManager.ShaderException e) {
+            assertTrue(e.getMessage().contains("syntax error"));
+        }
+        assertEquals(1, gl.count("glDeleteShader"));
+    }
+
+    @Test
+    public void linkFailure_surfacesInfoLog() {
+        CountingGL gl = new CountingGL();
+        gl.linkStatus = 0;
+        gl.infoLog = "varying mismatch";
+        ShaderManager manager = new ShaderManager(gl, null);
+        manager.onContextCreated();
+
+        try {
+            manager.getProgram(VERTEX, FRAGMENT);
+            fail("Se esperaba ShaderException");
+        } catch (ShaderManager.ShaderException e) {
+            assertTrue(e.getMessage().contains("varying mismatch"));
+        }
+        assertEquals(1, gl.count("glDeleteProgram"));
+    }
+
+    @Test
+    public void sameSources_linkOncePerContext() {
+        CountingGL gl = new CountingGL();
+        ShaderManager manager = new ShaderManager(gl, null);
+        manager.onContextCreated();
+
+        int first = manager.getProgram(VERTEX, FRAGMENT);
+        int second = manager.getProgram(VERTEX, FRAGMENT);
+
+        assertEquals(first, second);
+        assertEquals(1, gl.count("glLinkProgram"));
+
+        // Un contexto nuevo invalida los programas anteriores
+        manager.onContextCreated();
+        manager.getProgram(VERTEX, FRAGMENT);
+        assertEquals(2, gl.count("glLinkProgram"));
+    }
+
+    @Test
+    public void es2Context_neverUsesBinaries() throws IOException {
+        File dir = Files.createTempDirectory("shaders").toFile();
+        CountingGL gl = new CountingGL();
+        ShaderManager manager = new ShaderManager(gl, dir);
+        manager.onContextCreated();
+
+        manager.getProgram(VERTEX, FRAGMENT);
+
+        assertFalse(manager.binariesSupported());
+        assertEquals(0, gl.count("glGetProgramBinary"));
+        assertEquals(0, dir.list().length);
+    }
+
+    @Test
+    public void es3Context_warmStartSkipsCompilation() throws IOException {
+        File dir = Files.createTempDirectory("shaders").toFile();
+        CountingGL gl = new CountingGL();
+        gl.version = "OpenGL ES 3.2 V@0502.0";
+        gl.binaryFormats = 1;
+        ShaderManager manager = new ShaderManager(gl, dir);
+
+        // Arranque en frío: compila y guarda el binario
+        manager.onContextCreated();
+        manager.getProgram(VERTEX, FRAGMENT);
+        assertTrue(manager.binariesSupported());
+        assertEquals(2, gl.count("glCompileShader"));
+        assertEquals(1, dir.list().length);
+
+        // Arranque en caliente (nuevo contexto, p. ej. tras rotar): carga el binario
+        gl.reset();
+        manager.onContextCreated();
+        manager.getProgram(VERTEX, FRAGMENT);
+        assertEquals(0, gl.count("glCompileShader"));
+        assertEquals(1, gl.count("glProgramBinary"));
+    }
+
+    @Test
+    public void rejectedBinary_fallsBackToSource() throws IOException {
+        File dir = Files.createTempDirectory("shaders").toFile();
+        CountingGL gl = new CountingGL();
+        gl.version = "OpenGL ES 3.0";
+        gl.binaryFormats = 1;
+        ShaderManager manager = new ShaderManager(gl, dir);
+        manager.onContextCreated();
+        manager.getProgram(VERTEX, FRAGMENT);
+
+        // El driver rechaza el binario (p. ej. tras una actualización)
+        CountingGL updated = new CountingGL() {
+            @Override
+            public void glGetProgramiv(int program, int pname, int[] params, int offset) {
+                super.glGetProgramiv(program, pname, params, offset);
+                if (count("glProgramBinary") > 0 && count("glLinkProgram") == 0) {
+                    params[offset] = 0;
+                }
+            }
+        };
+        updated.version = "OpenGL ES 3.0";
+        updated.binaryFormats = 1;
+        ShaderManager reloaded = new ShaderManager(updated, dir);
+        reloaded.onContextCreated();
+        reloaded.getProgram(VERTEX, FRAGMENT);
+
+        assertEquals(1, updated.count("glProgramBinary"));
+        assertEquals(2, updated.count("glCompileShader"));
+    }
+}
@@ -0,0 +1,62 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Modo continuo sin fin durante millones de frames sobre una GLApi falsa:
+ * la memoria del trazo y del pool no crece y las coordenadas no se alejan
+ * del origen (θ se rebasa en cada arco).
+ */
+public class StreamingSoakTest {
+
+    private static final long FRAME_60HZ = 1_000_000_000L / 60;
+    private static final int FRAMES = 2_000_000;   // ~9 h a 60 Hz
+
+    /**
+     * Tiempo simulado: cada lectura avanza un frame
+     */
+    private static class SteppingTime implements AnimationClock.TimeSource {
+        long now = 0;
+
+        @Override
+        public long nanoTime() {
+            now += FRAME_60HZ;
+            return now;
+        }
+    }
+
+    @Test
+    public void unlimitedStreaming_keepsMemoryConstant() {
+        CountingGL gl = new CountingGL();
+        CycloidGLRenderer renderer = new CycloidGLRenderer(gl, null, new AnimationClock(new SteppingTime()));
+        renderer.onSurfaceCreated(null, null);
+        renderer.onSurfaceChanged(null, 1080, 1920);
+        renderer.setStreaming(CycloidGLRenderer.UNLIMITED_ARCHES, 3);
+        renderer.setSweepDuration(1.0);
+        renderer.startAnimation(50.0);
+
+        // Calentamiento: los buffers alcanzan su tamaño de trabajo en los primeros arcos
+        for (int i = 0; i < 1_000; i++) {
+            renderer.onDrawFrame(null);
+        }
+        DirectBufferPool pool = renderer.bufferPool();
+        long allocated = pool.allocatedBytes();
+        int capacity = renderer.trailVertexCapacity();
+        long arches = renderer.completedArches();
+        int maxTrailPoints = 0;
+
+        for (int i = 0; i < FRAMES; i++) {
+            renderer.onDrawFrame(null);
+            maxTrailPoints = Math.max(maxTrailPoints, renderer.trailPointCount());
+        }
+
+        assertFalse(renderer.isAnimationComplete());
+        assertTrue(renderer.completedArches() - arches > FRAMES / 61);
+        assertEquals(allocated, pool.allocatedBytes());
+        assertEquals(capacity, renderer.trailVertexCapacity());
+        assertTrue(maxTrailPoints <= capacity);
+        assertTrue(renderer.currentTheta() >= 0 && renderer.currentTheta() < 2 * Math.PI);
+    }
+}
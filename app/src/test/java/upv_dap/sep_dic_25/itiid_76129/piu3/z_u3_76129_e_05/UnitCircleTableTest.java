@@ -0,0 +1,60 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Las tablas reproducen Math.cos/sin en las subdivisiones y se comparten por resolución.
+ */
+public class UnitCircleTableTest {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    @Test
+    public void values_matchMath() {
+        for (int segments : new int[]{8, 12, 24, 64, 7}) {
+            UnitCircleTable table = UnitCircleTable.of(segments);
+            for (int i = 0; i <= segments; i++) {
+                double angle = i * TWO_PI / segments;
+                assertEquals(Math.cos(angle), table.cos(i), 1e-12);
+                assertEquals(Math.sin(angle), table.sin(i), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    public void indices_wrapAround() {
+        UnitCircleTable table = UnitCircleTable.of(16);
+
+        assertEquals(table.cos(3), table.cos(3 + 16), 0.0);
+        assertEquals(table.sin(13), table.sin(-3), 0.0);
+        assertEquals(Math.sin(-3 * TWO_PI / 16), table.sin(-3), 1e-12);
+    }
+
+    @Test
+    public void rotate_addsAngle() {
+        UnitCircleTable table = UnitCircleTable.of(12);
+        double phi = -1.234;
+        double cosPhi = Math.cos(phi);
+        double sinPhi = Math.sin(phi);
+
+        for (int i = 0; i < 12; i++) {
+            double angle = phi + i * Math.PI / 6;
+            assertEquals(Math.cos(angle), table.rotateCos(i, cosPhi, sinPhi), 1e-12);
+            assertEquals(Math.sin(angle), table.rotateSin(i, cosPhi, sinPhi), 1e-12);
+        }
+    }
+
+    @Test
+    public void tables_areSharedPerSegmentCount() {
+        assertSame(UnitCircleTable.of(64), UnitCircleTable.of(64));
+        assertSame(UnitCircleTable.of(37), UnitCircleTable.of(37));
+        assertNotSame(UnitCircleTable.of(32), UnitCircleTable.of(64));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void nonPositiveSegments_areRejected() {
+        UnitCircleTable.of(0);
+    }
+}
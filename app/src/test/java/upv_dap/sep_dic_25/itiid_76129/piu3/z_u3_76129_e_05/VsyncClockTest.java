@@ -0,0 +1,72 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Hora alineada con vsync a partir de marcas de vsync y tiempo sintéticos
+ */
+public class VsyncClockTest {
+
+    private static final long PERIOD = FramePacingStats.periodFromRefreshRate(60f);
+
+    @Test
+    public void beforeAnyVsync_returnsCurrentTime() {
+        AnimationClockTest.ManualTime time = new AnimationClockTest.ManualTime();
+        VsyncClock clock = new VsyncClock(new FramePacingMonitorTest.FakeFrames(), time, 60f);
+        time.now = 12_345L;
+
+        assertEquals(12_345L, clock.nanoTime());
+    }
+
+    @Test
+    public void reads_snapToTheLastVsync() {
+        AnimationClockTest.ManualTime time = new AnimationClockTest.ManualTime();
+        FramePacingMonitorTest.FakeFrames frames = new FramePacingMonitorTest.FakeFrames();
+        VsyncClock clock = new VsyncClock(frames, time, 60f);
+        long vsync = 1_000 * PERIOD;
+
+        time.now = vsync - PERIOD / 2;
+        clock.start();
+        time.now = vsync + 10_000L;
+        frames.fire(vsync);
+        assertEquals(vsync, clock.nanoTime());
+
+        // El hilo GL lee antes de que la UI procese los dos vsync siguientes
+        time.now = vsync + 2 * PERIOD + PERIOD / 3;
+        assertEquals(vsync + 2 * PERIOD, clock.nanoTime());
+    }
+
+    @Test
+    public void stopsListening_whenNobodyReads() {
+        AnimationClockTest.ManualTime time = new AnimationClockTest.ManualTime();
+        FramePacingMonitorTest.FakeFrames frames = new FramePacingMonitorTest.FakeFrames();
+        VsyncClock clock = new VsyncClock(frames, time, 60f);
+
+        clock.start();
+        clock.start();   // Ya activo: no se registra dos veces
+        assertEquals(1, frames.posts);
+
+        // Mientras se lee cada frame sigue registrado
+        for (int i = 1; i <= 20; i++) {
+            time.now = i * PERIOD;
+            clock.nanoTime();
+            frames.fire(time.now);
+        }
+        assertNotNull(frames.pending);
+
+        // Sin lecturas se detiene tras unos vsync y vuelve a la hora sin alinear
+        int frame = 21;
+        while (frames.pending != null && frame < 100) {
+            time.now = frame++ * PERIOD;
+            frames.fire(time.now);
+        }
+        assertTrue(frame < 40);
+        time.now += PERIOD / 2;
+        assertEquals(time.now, clock.nanoTime());
+
+        clock.start();
+        assertNotNull(frames.pending);
+    }
+}
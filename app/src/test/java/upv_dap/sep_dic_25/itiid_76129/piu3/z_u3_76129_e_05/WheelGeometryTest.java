@@ -0,0 +1,69 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Comprueba que la rueda estática transformada por (traslación θ·a, rotación −θ,
+ * escala a) coincide con la geometría que antes se regeneraba en cada frame.
+ */
+public class WheelGeometryTest {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    @Test
+    public void ranges_areContiguous() {
+        WheelGeometry wheel = new WheelGeometry();
+
+        assertEquals(0, wheel.tireFirst);
+        assertEquals(wheel.tireFirst + wheel.tireCount, wheel.rimFirst);
+        assertEquals(wheel.rimFirst + wheel.rimCount, wheel.innerRimFirst);
+        assertEquals(wheel.innerRimFirst + wheel.innerRimCount, wheel.hubFirst);
+        assertEquals(wheel.hubFirst + wheel.hubCount, wheel.spokesFirst);
+        assertEquals(wheel.spokesFirst + wheel.spokesCount, wheel.tracerFirst);
+        assertEquals(wheel.tracerFirst + wheel.tracerCount, wheel.vertexCount());
+    }
+
+    @Test
+    public void spokes_matchPerFrameGeometry() {
+        WheelGeometry wheel = new WheelGeometry();
+        float[] v = wheel.vertices();
+        double radius = 50.0;
+        double theta = 1.234;
+
+        double centerX = theta * radius;
+        double centerY = radius;
+        double cos = Math.cos(-theta);
+        double sin = Math.sin(-theta);
+        int spokes = WheelGeometry.SPOKES_PER_SIDE;
+
+        for (int i = 0; i < spokes; i++) {
+            // Fórmula original de drawSpokes() para el radio exterior del primer set
+            double angle2 = -theta + ((i + 2) * TWO_PI / spokes);
+            double expectedX = centerX + radius * WheelGeometry.SPOKE_OUTER_SCALE * Math.cos(angle2);
+            double expectedY = centerY + radius * WheelGeometry.SPOKE_OUTER_SCALE * Math.sin(angle2);
+
+            int base = (wheel.spokesFirst + i * 2 + 1) * 3;
+            double x = v[base];
+            double y = v[base + 1];
+            double actualX = centerX + radius * (x * cos - y * sin);
+            double actualY = centerY + radius * (x * sin + y * cos);
+
+            assertEquals(expectedX, actualX, 1e-3);
+            assertEquals(expectedY, actualY, 1e-3);
+        }
+    }
+
+    @Test
+    public void tire_isUnitCircle() {
+        WheelGeometry wheel = new WheelGeometry();
+        float[] v = wheel.vertices();
+
+        for (int i = 0; i < wheel.tireCount; i++) {
+            int base = (wheel.tireFirst + i) * 3;
+            double r = Math.hypot(v[base], v[base + 1]);
+            assertEquals(1.0, r, 1e-6);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Selección de nivel de detalle de la rueda según su radio en píxeles
+ */
+public class WheelLodTest {
+
+    @Test
+    public void levelZero_isFullDetailWheel() {
+        WheelLod lod = new WheelLod();
+        WheelGeometry full = new WheelGeometry();
+
+        assertEquals(0, lod.baseVertex(0));
+        assertEquals(full.vertexCount(), lod.geometry(0).vertexCount());
+        assertEquals(0, lod.select(1000));
+    }
+
+    @Test
+    public void select_getsCoarserAsWheelShrinks() {
+        WheelLod lod = new WheelLod();
+        int previous = lod.select(2000);
+
+        for (double r = 2000; r >= 1; r /= 1.5) {
+            int level = lod.select(r);
+            assertTrue(level >= previous);
+            previous = level;
+        }
+        assertEquals(lod.levelCount() - 1, lod.select(1));
+    }
+
+    @Test
+    public void select_keepsErrorWithinTolerance() {
+        WheelLod lod = new WheelLod();
+
+        for (double r = 1; r < 500; r += 0.5) {
+            WheelGeometry wheel = lod.geometry(lod.select(r));
+            // El nivel 0 es el límite; fuera de él el error queda acotado
+            if (wheel.circleSegments < WheelGeometry.CIRCLE_SEGMENTS) {
+                assertTrue(WheelLod.circleErrorPx(r, wheel.circleSegments) <= WheelLod.DEFAULT_TOLERANCE_PX);
+            }
+        }
+    }
+
+    @Test
+    public void vertices_concatenateAllLevels() {
+        WheelLod lod = new WheelLod();
+        float[] all = lod.vertices();
+
+        for (int level = 0; level < lod.levelCount(); level++) {
+            float[] own = lod.mesh(level).vertices();
+            int base = lod.baseVertex(level) * WheelMesh.FLOATS_PER_VERTEX;
+            for (int i = 0; i < own.length; i++) {
+                assertEquals(own[i], all[base + i], 0f);
+            }
+        }
+    }
+
+    @Test
+    public void coarsestLevel_needsFewerVertices() {
+        WheelLod lod = new WheelLod();
+        WheelGeometry coarse = lod.geometry(lod.levelCount() - 1);
+
+        // Por elementos: 6 llamadas a detalle completo y 2 en el nivel más simple
+        assertEquals(6, lod.geometry(0).drawCalls());
+        assertEquals(2, coarse.drawCalls());
+        assertTrue(lod.mesh(lod.levelCount() - 1).vertexCount() < lod.mesh(0).vertexCount() / 10);
+    }
+}
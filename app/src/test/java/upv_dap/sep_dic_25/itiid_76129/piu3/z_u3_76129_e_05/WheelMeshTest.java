@@ -0,0 +1,58 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Malla en lote de la rueda: triángulos que cubren los mismos elementos
+ */
+public class WheelMeshTest {
+
+    private static final int F = WheelMesh.FLOATS_PER_VERTEX;
+
+    @Test
+    public void ranges_fillBufferWithWholeTriangles() {
+        WheelMesh mesh = new WheelMesh(new WheelGeometry());
+
+        assertEquals(0, mesh.wheelCount % 3);
+        assertEquals(6, mesh.tracerCount);
+        assertEquals(mesh.wheelFirst + mesh.wheelCount, mesh.tracerFirst);
+        assertEquals(mesh.tracerFirst + mesh.tracerCount, mesh.vertexCount());
+    }
+
+    @Test
+    public void tire_isBandAroundUnitCircle() {
+        WheelGeometry geometry = new WheelGeometry();
+        WheelMesh mesh = new WheelMesh(geometry);
+        float[] v = mesh.vertices();
+        float half = WheelMesh.TIRE_WIDTH / 2;
+
+        // El neumático ocupa los primeros 6 vértices por segmento
+        for (int i = 0; i < (geometry.tireCount - 1) * 6; i++) {
+            double r = Math.hypot(v[i * F], v[i * F + 1]);
+            assertTrue(Math.abs(r - (1 - half)) < 1e-5 || Math.abs(r - (1 + half)) < 1e-5);
+        }
+    }
+
+    @Test
+    public void tracer_keepsQuadAndColor() {
+        WheelMesh mesh = new WheelMesh(new WheelGeometry());
+        float[] v = mesh.vertices();
+
+        for (int i = mesh.tracerFirst; i < mesh.tracerFirst + mesh.tracerCount; i++) {
+            assertEquals(WheelGeometry.TRACER_HALF_SIZE, Math.abs(v[i * F]), 1e-6);
+            assertEquals(WheelGeometry.TRACER_HALF_SIZE, Math.abs(v[i * F + 1]), 1e-6);
+            assertEquals(1.0f, v[i * F + 3], 0f);
+            assertEquals(0.2f, v[i * F + 4], 0f);
+        }
+    }
+
+    @Test
+    public void coarseGeometry_skipsAbsentElements() {
+        WheelMesh mesh = new WheelMesh(new WheelGeometry(8, 0, 0, false));
+
+        // Solo la banda del neumático: 8 segmentos de 2 triángulos
+        assertEquals(8 * 6, mesh.wheelCount);
+    }
+}
@@ -0,0 +1,50 @@
+// Benchmarks JMH de la generación de geometría y los núcleos numéricos (JVM, sin Android)
+//
+//   ./gradlew :benchmark:jmh
+//
+// Informa ns/op y, con el perfilador gc, la tasa de asignación (gc.alloc.rate.norm).
+// Los resultados quedan en benchmark/build/results/jmh/results.json
+plugins {
+    java
+    alias(libs.plugins.jmh)
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_11
+    targetCompatibility = JavaVersion.VERSION_11
+}
+
+// Clases de :app sin dependencias de Android, compiladas tal cual desde sus fuentes
+val pureJavaSources = listOf(
+    "AdaptiveTessellator",
+    "AnimationClock",
+    "AreaStrip",
+    "CycloidInstance",
+    "CycloidKernel",
+    "CycloidScene",
+    "DirectBufferPool",
+    "GrowableVertexBuffer",
+    "RollingCurve",
+    "RouletteCurve",
+    "TrochoidCurve",
+    "UnitCircleTable",
+    "WheelGeometry"
+)
+
+sourceSets {
+    main {
+        java {
+            srcDir("../app/src/main/java")
+            pureJavaSources.forEach { include("**/$it.java") }
+        }
+    }
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+    profilers.add("gc")
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,62 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.FloatBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Área bajo la curva: lista de triángulos rehecha por frame (original) frente
+ * a AreaStrip, que solo anexa los dos vértices del punto nuevo
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class AreaBenchmark {
+
+    // 315 = un barrido completo; 10k = trazos largos
+    @Param({"315", "10000"})
+    public int points;
+
+    private List<float[]> legacyTrail;
+    private GrowableVertexBuffer trail;
+    private AreaStrip strip;
+
+    @Setup
+    public void setUp() {
+        legacyTrail = LegacyGeometry.trailPoints(points, 50.0);
+        trail = new GrowableVertexBuffer(points);
+        for (float[] p : legacyTrail) {
+            trail.append(p[0], p[1], p[2]);
+        }
+        strip = new AreaStrip(points);
+    }
+
+    /**
+     * Coste por frame del original: toda el área otra vez
+     */
+    @Benchmark
+    public FloatBuffer legacyTrianglesPerFrame() {
+        return LegacyGeometry.areaTriangles(legacyTrail);
+    }
+
+    /**
+     * Construir la tira completa; por frame la tira solo anexa un punto
+     */
+    @Benchmark
+    public FloatBuffer areaStripFullBuild() {
+        strip.clear();
+        for (int i = 0; i < trail.vertexCount(); i++) {
+            strip.appendPoint(trail.x(i), trail.y(i));
+        }
+        return strip.buffer();
+    }
+}
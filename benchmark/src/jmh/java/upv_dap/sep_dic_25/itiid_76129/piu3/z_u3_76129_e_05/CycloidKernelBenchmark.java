@@ -0,0 +1,64 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CycloidKernel.evaluate por lotes, como lo llama el renderer, frente a la
+ * fórmula anterior de la rueda girada evaluada punto a punto
+ *
+ * Las dos llaman a Math.sin/cos por punto; los θ salen del teselado adaptativo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CycloidKernelBenchmark {
+
+    @Param({"100", "500", "100000"})
+    public int points;
+
+    private final CycloidKernel kernel = new CycloidKernel(50.0);
+    private double[] thetas;
+    private float[] out;
+
+    @Setup
+    public void setUp() {
+        // Un periodo con la densidad de vértices del teselado a la escala que da points
+        AdaptiveTessellator tessellator =
+                new AdaptiveTessellator(AdaptiveTessellator.DEFAULT_TOLERANCE_PX);
+        double pixelsPerUnit = 1.0;
+        double[] chunk = new double[points];
+        int count = 0;
+        while (count < points) {
+            count = tessellator.planThetas(kernel, 0, 2 * Math.PI, pixelsPerUnit, chunk);
+            pixelsPerUnit *= 1.25;
+        }
+        thetas = chunk;
+        out = new float[points * CycloidKernel.STRIDE];
+    }
+
+    @Benchmark
+    public float[] legacyPerPoint() {
+        double a = kernel.radius();
+        for (int i = 0; i < points; i++) {
+            double theta = thetas[i];
+            out[2 * i] = (float) (theta * a + a * Math.sin(-theta));
+            out[2 * i + 1] = (float) (a - a * Math.cos(-theta));
+        }
+        return out;
+    }
+
+    @Benchmark
+    public float[] kernelEvaluate() {
+        kernel.evaluate(thetas, 0, points, out, 0);
+        return out;
+    }
+}
@@ -0,0 +1,47 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Trabajo de CPU por frame de la escena de comparación con instanciado
+ *
+ * Por instancia solo se avanza θ y se escriben 7 floats; los vértices los
+ * evalúa la GPU sobre la malla compartida, así que el coste no depende de las
+ * muestras de cada curva.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CycloidSceneBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int instances;
+
+    private CycloidScene scene;
+    private FloatBuffer instanceData;
+
+    @Setup
+    public void setUp() {
+        scene = CycloidScene.comparison(instances, 10.0, 100.0);
+        instanceData = FloatBuffer.allocate(instances * CycloidScene.FLOATS_PER_INSTANCE);
+    }
+
+    @Benchmark
+    public FloatBuffer advanceAndWrite() {
+        if (!scene.advance(1e-3)) {
+            scene.restart();
+        }
+        scene.write(instanceData);
+        return instanceData;
+    }
+}
@@ -0,0 +1,48 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffer temporal de vértices: allocateDirect por uso (original) frente al pool
+ *
+ * Con el pool la memoria nativa se reserva una vez por clase de tamaño; el
+ * perfilador gc muestra la diferencia en bytes reservados por operación.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DirectBufferPoolBenchmark {
+
+    @Param({"192", "4096"})
+    public int floats;
+
+    private final DirectBufferPool pool = new DirectBufferPool(AnimationClock.SYSTEM);
+
+    @Benchmark
+    public FloatBuffer allocateDirectPerUse() {
+        ByteBuffer bb = ByteBuffer.allocateDirect(floats * 4);
+        bb.order(ByteOrder.nativeOrder());
+        FloatBuffer buffer = bb.asFloatBuffer();
+        buffer.put(0, 1f);
+        return buffer;
+    }
+
+    @Benchmark
+    public FloatBuffer pooledAcquireRelease() {
+        FloatBuffer buffer = pool.acquire(floats);
+        buffer.put(0, 1f);
+        pool.release(buffer);
+        return buffer;
+    }
+}
@@ -0,0 +1,214 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * LegacyGeometry - Generación de geometría de la versión original del renderer
+ *
+ * Copia fiel (sin llamadas GL) de drawSpokes(), drawArea(),
+ * updateCycloidTrailBuffer() y de los generadores trigonométricos de la rueda
+ * tal como se ejecutaban, para comparar las sustituciones optimizadas contra
+ * la misma referencia.
+ */
+final class LegacyGeometry {
+
+    private static final double TWO_PI = 2 * Math.PI;
+
+    private LegacyGeometry() {
+    }
+
+    /**
+     * drawSpokes(): 64 vértices en List<Float> y un buffer directo nuevo por frame
+     */
+    static FloatBuffer spokes(double currentTheta, double radius) {
+        double centerX = currentTheta * radius;
+        double centerY = radius;
+
+        int numSpokes = 16;
+        float innerRadius = (float) (radius * 0.10);
+        float outerRadius = (float) (radius * 0.83);
+
+        List<Float> spokeVertices = new ArrayList<>();
+
+        for (int i = 0; i < numSpokes; i++) {
+            double angle1 = -currentTheta + (i * TWO_PI / numSpokes);
+            double angle2 = -currentTheta + ((i + 2) * TWO_PI / numSpokes);
+
+            spokeVertices.add((float) (centerX + innerRadius * Math.cos(angle1)));
+            spokeVertices.add((float) (centerY + innerRadius * Math.sin(angle1)));
+            spokeVertices.add(0f);
+
+            spokeVertices.add((float) (centerX + outerRadius * Math.cos(angle2)));
+            spokeVertices.add((float) (centerY + outerRadius * Math.sin(angle2)));
+            spokeVertices.add(0f);
+        }
+
+        for (int i = 0; i < numSpokes; i++) {
+            double angle1 = -currentTheta + ((i + 0.5) * TWO_PI / numSpokes);
+            double angle2 = -currentTheta + ((i - 1.5) * TWO_PI / numSpokes);
+
+            spokeVertices.add((float) (centerX + innerRadius * Math.cos(angle1)));
+            spokeVertices.add((float) (centerY + innerRadius * Math.sin(angle1)));
+            spokeVertices.add(0f);
+
+            spokeVertices.add((float) (centerX + outerRadius * Math.cos(angle2)));
+            spokeVertices.add((float) (centerY + outerRadius * Math.sin(angle2)));
+            spokeVertices.add(0f);
+        }
+
+        float[] vertices = new float[spokeVertices.size()];
+        for (int i = 0; i < spokeVertices.size(); i++) {
+            vertices[i] = spokeVertices.get(i);
+        }
+        return createFloatBuffer(vertices);
+    }
+
+    /**
+     * WheelGeometry con Math.cos/sin por vértice, como antes de UnitCircleTable:
+     * 3 círculos de 65 + buje de 25 + 64 extremos de radios = 284 pares cos/sin
+     */
+    static float[] wheelVerticesWithTrig() {
+        int circle = WheelGeometry.CIRCLE_SEGMENTS;
+        int hub = WheelGeometry.HUB_SEGMENTS;
+        int spokes = WheelGeometry.SPOKES_PER_SIDE;
+        float[] vertices = new float[(3 * (circle + 1) + hub + 2 + spokes * 4 + 4) * 3];
+        int c = 0;
+
+        float[] scales = {1f, WheelGeometry.RIM_SCALE, WheelGeometry.INNER_RIM_SCALE};
+        for (float scale : scales) {
+            for (int i = 0; i <= circle; i++) {
+                double angle = (i / (double) circle) * TWO_PI;
+                vertices[c++] = (float) (scale * Math.cos(angle));
+                vertices[c++] = (float) (scale * Math.sin(angle));
+                vertices[c++] = 0f;
+            }
+        }
+
+        c += 3;   // Centro del buje
+        for (int i = 0; i <= hub; i++) {
+            double angle = (i / (double) hub) * TWO_PI;
+            vertices[c++] = (float) (WheelGeometry.HUB_SCALE * Math.cos(angle));
+            vertices[c++] = (float) (WheelGeometry.HUB_SCALE * Math.sin(angle));
+            vertices[c++] = 0f;
+        }
+
+        double[][] offsets = {{0, 2}, {0.5, -1.5}};
+        for (double[] offset : offsets) {
+            for (int i = 0; i < spokes; i++) {
+                double angle1 = (i + offset[0]) * TWO_PI / spokes;
+                double angle2 = (i + offset[1]) * TWO_PI / spokes;
+                vertices[c++] = (float) (WheelGeometry.SPOKE_INNER_SCALE * Math.cos(angle1));
+                vertices[c++] = (float) (WheelGeometry.SPOKE_INNER_SCALE * Math.sin(angle1));
+                vertices[c++] = 0f;
+                vertices[c++] = (float) (WheelGeometry.SPOKE_OUTER_SCALE * Math.cos(angle2));
+                vertices[c++] = (float) (WheelGeometry.SPOKE_OUTER_SCALE * Math.sin(angle2));
+                vertices[c++] = 0f;
+            }
+        }
+        return vertices;
+    }
+
+    /**
+     * CycloidView.drawRollingCircle(): extremos de los 12 radios con 24 llamadas trig
+     */
+    static void canvasSpokes(double currentTheta, double radius, float[] out) {
+        double centerX = currentTheta * radius;
+        double centerY = radius;
+        for (int i = 0; i < 12; i++) {
+            double spokeAngle = -currentTheta + (i * Math.PI / 6);
+            out[2 * i] = (float) (centerX + radius * Math.sin(spokeAngle));
+            out[2 * i + 1] = (float) (centerY - radius * Math.cos(spokeAngle));
+        }
+    }
+
+    /**
+     * drawArea(): lista de triángulos (6 vértices por segmento) rehecha por frame
+     */
+    static FloatBuffer areaTriangles(List<float[]> trailPoints) {
+        List<Float> areaVertices = new ArrayList<>();
+
+        for (int i = 0; i < trailPoints.size() - 1; i++) {
+            float[] p1 = trailPoints.get(i);
+            float[] p2 = trailPoints.get(i + 1);
+
+            areaVertices.add(p1[0]);
+            areaVertices.add(0f);
+            areaVertices.add(0f);
+
+            areaVertices.add(p1[0]);
+            areaVertices.add(p1[1]);
+            areaVertices.add(0f);
+
+            areaVertices.add(p2[0]);
+            areaVertices.add(p2[1]);
+            areaVertices.add(0f);
+
+            areaVertices.add(p1[0]);
+            areaVertices.add(0f);
+            areaVertices.add(0f);
+
+            areaVertices.add(p2[0]);
+            areaVertices.add(p2[1]);
+            areaVertices.add(0f);
+
+            areaVertices.add(p2[0]);
+            areaVertices.add(0f);
+            areaVertices.add(0f);
+        }
+
+        float[] vertices = new float[areaVertices.size()];
+        for (int i = 0; i < areaVertices.size(); i++) {
+            vertices[i] = areaVertices.get(i);
+        }
+        return createFloatBuffer(vertices);
+    }
+
+    /**
+     * updateCycloidTrailBuffer(): copia todo el trazo a un buffer directo nuevo
+     */
+    static FloatBuffer trailBuffer(List<float[]> trailPoints) {
+        float[] vertices = new float[trailPoints.size() * 3];
+        for (int i = 0; i < trailPoints.size(); i++) {
+            float[] point = trailPoints.get(i);
+            vertices[i * 3] = point[0];
+            vertices[i * 3 + 1] = point[1];
+            vertices[i * 3 + 2] = point[2];
+        }
+
+        ByteBuffer bb = ByteBuffer.allocateDirect(vertices.length * 4);
+        bb.order(ByteOrder.nativeOrder());
+        FloatBuffer buffer = bb.asFloatBuffer();
+        buffer.put(vertices);
+        buffer.position(0);
+        return buffer;
+    }
+
+    /**
+     * Trazo como List<float[]> con los puntos del cicloide de radio a
+     */
+    static List<float[]> trailPoints(int count, double radius) {
+        List<float[]> points = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            double theta = i * 0.02;
+            points.add(new float[]{
+                    (float) (theta * radius + radius * Math.sin(-theta)),
+                    (float) (radius - radius * Math.cos(-theta)),
+                    0f
+            });
+        }
+        return points;
+    }
+
+    private static FloatBuffer createFloatBuffer(float[] vertices) {
+        ByteBuffer bb = ByteBuffer.allocateDirect(vertices.length * 4);
+        bb.order(ByteOrder.nativeOrder());
+        FloatBuffer buffer = bb.asFloatBuffer();
+        buffer.put(vertices);
+        buffer.position(0);
+        return buffer;
+    }
+}
@@ -0,0 +1,85 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Teselado de un periodo completo por lotes frente a x(θ)/y(θ) por vértice
+ *
+ * Las cuatro curvas pasan por la misma referencia RollingCurve, como en el
+ * renderer: por vértice la llamada es megamórfica; por lotes hay una llamada
+ * cada 256 θ y el bucle interno es monomórfico.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RollingCurveBenchmark {
+
+    private static final int BATCH = 256;
+
+    @Param({"4", "40"})
+    public double pixelsPerUnit;
+
+    private final AdaptiveTessellator tessellator =
+            new AdaptiveTessellator(AdaptiveTessellator.DEFAULT_TOLERANCE_PX);
+    private final double[] thetas = new double[BATCH];
+    private final float[] positions = new float[BATCH * RollingCurve.STRIDE];
+    private RollingCurve[] curves;
+
+    @Setup
+    public void setUp() {
+        curves = new RollingCurve[]{
+                new CycloidKernel(50.0),
+                new TrochoidCurve(50.0, 80.0),
+                RouletteCurve.epicycloid(75.0, 50.0),
+                RouletteCurve.hypocycloid(150.0, 50.0),
+        };
+        // Tablas de flecha construidas fuera de la medición
+        for (RollingCurve curve : curves) {
+            curve.maxBend(0, 0);
+        }
+    }
+
+    @Benchmark
+    public float batched() {
+        float sum = 0f;
+        for (RollingCurve curve : curves) {
+            double end = curve.period();
+            double theta = 0.0;
+            while (theta < end) {
+                int count = tessellator.planThetas(curve, theta, end, pixelsPerUnit, thetas);
+                curve.evaluate(thetas, 0, count, positions, 0);
+                sum += positions[2 * count - 1];
+                theta = thetas[count - 1];
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float perVertex() {
+        float sum = 0f;
+        for (RollingCurve curve : curves) {
+            double end = curve.period();
+            double theta = 0.0;
+            while (theta < end) {
+                int count = tessellator.planThetas(curve, theta, end, pixelsPerUnit, thetas);
+                for (int i = 0; i < count; i++) {
+                    positions[2 * i] = (float) curve.x(thetas[i]);
+                    positions[2 * i + 1] = (float) curve.y(thetas[i]);
+                }
+                sum += positions[2 * count - 1];
+                theta = thetas[count - 1];
+            }
+        }
+        return sum;
+    }
+}
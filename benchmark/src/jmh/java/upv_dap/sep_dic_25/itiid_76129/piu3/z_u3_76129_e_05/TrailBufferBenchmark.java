@@ -0,0 +1,59 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.FloatBuffer;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Buffer del trazo: copia completa a un buffer directo nuevo por punto (original)
+ * frente a GrowableVertexBuffer, que anexa un vértice en O(1) amortizado
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TrailBufferBenchmark {
+
+    @Param({"315", "10000"})
+    public int points;
+
+    private List<float[]> legacyTrail;
+    private GrowableVertexBuffer buffer;
+
+    @Setup
+    public void setUp() {
+        legacyTrail = LegacyGeometry.trailPoints(points, 50.0);
+        buffer = new GrowableVertexBuffer(points + 1);
+        for (float[] p : legacyTrail) {
+            buffer.append(p[0], p[1], p[2]);
+        }
+    }
+
+    /**
+     * Coste por punto del original: copiar todo el trazo
+     */
+    @Benchmark
+    public FloatBuffer legacyRebuildPerPoint() {
+        return LegacyGeometry.trailBuffer(legacyTrail);
+    }
+
+    /**
+     * Coste por punto actual: anexar un vértice (se rebobina al llenarse)
+     */
+    @Benchmark
+    public FloatBuffer growableAppendPerPoint() {
+        if (buffer.vertexCount() == buffer.vertexCapacity()) {
+            buffer.clear();
+        }
+        buffer.append(1f, 2f, 0f);
+        return buffer.buffer();
+    }
+}
@@ -0,0 +1,54 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GrowableVertexBuffer frente a List<float[]> (la estructura anterior del trazo)
+ *
+ * Llena el trazo y lo recorre una vez, como hace drawArea.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TrailStorageBenchmark {
+
+    @Param({"300", "10000", "1000000"})
+    public int points;
+
+    @Benchmark
+    public float listOfArrays() {
+        List<float[]> trail = new ArrayList<>();
+        for (int i = 0; i < points; i++) {
+            trail.add(new float[]{i, i * 0.5f, 0f});
+        }
+        float sum = 0f;
+        for (int i = 0; i < trail.size(); i++) {
+            float[] p = trail.get(i);
+            sum += p[0] + p[1];
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public float growableVertexBuffer() {
+        GrowableVertexBuffer trail = new GrowableVertexBuffer(16);
+        for (int i = 0; i < points; i++) {
+            trail.append(i, i * 0.5f, 0f);
+        }
+        float sum = 0f;
+        for (int i = 0; i < trail.vertexCount(); i++) {
+            sum += trail.x(i) + trail.y(i);
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,59 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tablas de cos/sin frente a Math.cos/sin por vértice
+ *
+ * Llamadas trigonométricas de cada variante:
+ * - Rueda GL completa: 568 por construcción (284 pares) frente a 0 con las tablas
+ * - Radios de CycloidView: 24 por frame frente a 2 (cos θ y sin θ una vez)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UnitCircleBenchmark {
+
+    private static final UnitCircleTable SPOKES = UnitCircleTable.of(12);
+    private static final double RADIUS = 50.0;
+
+    private final float[] spokeEnds = new float[24];
+    private double theta = 0;
+
+    @Benchmark
+    public float[] wheelGeometryWithTrig() {
+        return LegacyGeometry.wheelVerticesWithTrig();
+    }
+
+    @Benchmark
+    public float[] wheelGeometryFromTables() {
+        return new WheelGeometry().vertices();
+    }
+
+    @Benchmark
+    public float[] canvasSpokesWithTrig() {
+        theta += 0.03;
+        LegacyGeometry.canvasSpokes(theta, RADIUS, spokeEnds);
+        return spokeEnds;
+    }
+
+    @Benchmark
+    public float[] canvasSpokesFromTable() {
+        theta += 0.03;
+        double centerX = theta * RADIUS;
+        double cosTheta = Math.cos(-theta);
+        double sinTheta = Math.sin(-theta);
+        for (int i = 0; i < 12; i++) {
+            spokeEnds[2 * i] = (float) (centerX + RADIUS * SPOKES.rotateSin(i, cosTheta, sinTheta));
+            spokeEnds[2 * i + 1] = (float) (RADIUS - RADIUS * SPOKES.rotateCos(i, cosTheta, sinTheta));
+        }
+        return spokeEnds;
+    }
+}
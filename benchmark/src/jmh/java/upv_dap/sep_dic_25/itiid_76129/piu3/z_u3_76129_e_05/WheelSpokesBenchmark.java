@@ -0,0 +1,79 @@
+package upv_dap.sep_dic_25.itiid_76129.piu3.z_u3_76129_e_05;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.FloatBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Radios de la rueda: geometría por frame (original) frente a la malla estática
+ *
+ * La malla de WheelGeometry se construye una vez por superficie (en @Setup) y
+ * por frame solo cambia la matriz de modelo que se sube con glUniformMatrix4fv.
+ * Se calcula aquí en línea porque android.opengl.Matrix no existe en la JVM.
+ * staticMeshBuildOnce mide aparte ese coste único de construcción.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class WheelSpokesBenchmark {
+
+    private static final double RADIUS = 50.0;
+
+    private double theta = 0;
+    private final float[] modelMatrix = new float[16];
+    private final int[] drawRange = new int[2];
+    private WheelGeometry geometry;
+
+    @Setup
+    public void setUp() {
+        geometry = new WheelGeometry();
+    }
+
+    /**
+     * Coste por frame del original: rehacer todos los radios
+     */
+    @Benchmark
+    public FloatBuffer legacySpokesPerFrame() {
+        theta += 0.02;
+        return LegacyGeometry.spokes(theta, RADIUS);
+    }
+
+    /**
+     * Coste por frame de la malla estática: traslación (aθ, a), giro −θ y escala a
+     */
+    @Benchmark
+    public float[] staticMeshPerFrame() {
+        theta += 0.02;
+        float cos = (float) (Math.cos(-theta) * RADIUS);
+        float sin = (float) (Math.sin(-theta) * RADIUS);
+        float[] m = modelMatrix;
+        m[0] = cos;
+        m[1] = sin;
+        m[4] = -sin;
+        m[5] = cos;
+        m[10] = 1f;
+        m[12] = (float) (RADIUS * theta);
+        m[13] = (float) RADIUS;
+        m[15] = 1f;
+
+        // Rango de glDrawArrays de los radios: lo único que el frame lee de la malla
+        drawRange[0] = geometry.spokesFirst;
+        drawRange[1] = geometry.spokesCount;
+        return m;
+    }
+
+    /**
+     * Coste único de construir la malla (una vez por superficie, no por frame)
+     */
+    @Benchmark
+    public float[] staticMeshBuildOnce() {
+        return new WheelGeometry().vertices();
+    }
+}
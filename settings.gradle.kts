@@ -21,3 +21,4 @@ dependencyResolutionManagement {
 
 rootProject.name = "Z_U3_76129_E_05"
 include(":app")
+include(":benchmark")